@@ -0,0 +1,26 @@
+package com.bidnbuy.server.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+// replica 라우팅을 켜면 Hibernate 가 트랜잭션이 끝날 때마다 커넥션을 반납하도록 바꾼다
+// 기본값(DELAYED_ACQUISITION_AND_HOLD)은 open-in-view 로 열린 요청 단위 세션이 처음 얻은 커넥션을 끝까지 붙잡아서,
+// 같은 요청의 다음 트랜잭션이 라우팅을 다시 타지 않는다. open-in-view 는 그대로 둔다 (트랜잭션 밖 지연 로딩을 쓰는 조회가 있음)
+public class ReplicaConnectionReleaseConfigurer implements EnvironmentPostProcessor {
+
+    static final String HANDLING_MODE = "spring.jpa.properties.hibernate.connection.handling_mode";
+    static final String RELEASE_AFTER_TRANSACTION = "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("datasource.replica.enabled", Boolean.class, false)) {
+            return;
+        }
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("replicaConnectionRelease", Map.of(HANDLING_MODE, RELEASE_AFTER_TRANSACTION)));
+    }
+}
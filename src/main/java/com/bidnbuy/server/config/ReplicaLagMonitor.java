@@ -0,0 +1,74 @@
+package com.bidnbuy.server.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+ * replica 복제 지연 확인 (SHOW REPLICA STATUS 의 Seconds_Behind_Source)
+ * - 지연이 기준을 넘거나, 복제가 멈췄거나(NULL), 접속이 안 되면 unhealthy -> 읽기도 primary 로
+ * - 복제 설정이 없는 단독 인스턴스(로컬 두 DB 테스트)는 allow-standalone 일 때만 지연 0 으로 본다
+ * - 처음 확인 전까지는 unhealthy
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final boolean allowStandalone;
+
+    private volatile boolean healthy;
+    // 마지막으로 확인한 지연(초), 알 수 없으면 -1
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean allowStandalone,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        this.allowStandalone = allowStandalone;
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds).register(meterRegistry);
+        Gauge.builder("datasource.replica.healthy", this, monitor -> monitor.healthy ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:1000}")
+    public void check() {
+        long lag;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                lag = allowStandalone ? 0 : -1;
+            } else {
+                lag = rs.getLong("Seconds_Behind_Source");
+                if (rs.wasNull()) {
+                    lag = -1;
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("replica 지연 확인 실패", e);
+            lag = -1;
+        }
+
+        boolean nowHealthy = lag >= 0 && lag <= maxLagSeconds;
+        if (nowHealthy != healthy) {
+            if (nowHealthy) {
+                log.info("replica 읽기 재개: 지연 {}초", lag);
+            } else {
+                log.warn("replica 읽기 중단(primary 로 전환): 지연 {}초 (기준 {}초, -1 은 확인 불가)", lag, maxLagSeconds);
+            }
+        }
+        lagSeconds = lag;
+        healthy = nowHealthy;
+    }
+}
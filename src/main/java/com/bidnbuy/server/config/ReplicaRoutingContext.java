@@ -0,0 +1,112 @@
+package com.bidnbuy.server.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * read-your-writes 라우팅 상태
+ * - 사용자별 primary 고정: 쓰기 트랜잭션이 커밋되면 그 사용자의 읽기를 sticky-ms 동안 primary 로 (어느 스레드에서 커밋됐든)
+ *   요청 스레드의 쓰기는 로그인 사용자로 자동 기록, 입찰 워커/저널 반영처럼 요청 밖에서 쓰는 곳은 recordWrite(userId) 로 기록
+ * - 요청 단위 상태 (ReadYourWritesInterceptor 가 요청 시작/끝에 설정): 현재 사용자, 이번 요청에서 쓰기 트랜잭션이 있었는지
+ * 노드 메모리 기준이라 다른 서버로 간 요청에는 적용되지 않는다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+    private static final ConcurrentHashMap<Long, Long> PRIMARY_UNTIL = new ConcurrentHashMap<>();
+    // 트랜잭션별로 이미 커밋 후 기록을 걸어둔 사용자
+    private static final Object RECORDED_USERS_KEY = new Object();
+
+    // 0 이면 replica 라우팅을 쓰지 않는 상태 (기록하지 않음)
+    private static volatile long stickyMillis;
+
+    private ReplicaRoutingContext() {
+    }
+
+    static void enable(long stickyMillis) {
+        ReplicaRoutingContext.stickyMillis = stickyMillis;
+    }
+
+    static void begin(Long userId) {
+        STATE.set(new State(userId));
+    }
+
+    static void end() {
+        STATE.remove();
+    }
+
+    // 쓰기 트랜잭션에서 커넥션을 얻을 때 (ReplicaRoutingDataSource)
+    static void markWrite() {
+        State state = STATE.get();
+        if (state != null) {
+            state.wrote = true;
+            recordWrite(state.userId);
+        }
+    }
+
+    static boolean isPrimaryPinned() {
+        State state = STATE.get();
+        return state != null && (state.wrote || isPinned(state.userId));
+    }
+
+    static boolean isPinned(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long until = PRIMARY_UNTIL.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    // userId 의 쓰기를 기록 (트랜잭션 안이면 커밋 이후, 롤백되면 기록하지 않음)
+    public static void recordWrite(Long userId) {
+        if (userId == null || stickyMillis <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(userId);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> recorded = (Set<Long>) TransactionSynchronizationManager.getResource(RECORDED_USERS_KEY);
+        if (recorded == null) {
+            Set<Long> users = new HashSet<>();
+            recorded = users;
+            TransactionSynchronizationManager.bindResource(RECORDED_USERS_KEY, users);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.forEach(ReplicaRoutingContext::pin);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RECORDED_USERS_KEY);
+                }
+            });
+        }
+        recorded.add(userId);
+    }
+
+    private static void pin(Long userId) {
+        long now = System.currentTimeMillis();
+        PRIMARY_UNTIL.put(userId, now + stickyMillis);
+        if (PRIMARY_UNTIL.size() > CLEANUP_THRESHOLD) {
+            PRIMARY_UNTIL.values().removeIf(until -> until <= now);
+        }
+    }
+
+    private static final class State {
+        private final Long userId;
+        private boolean wrote;
+
+        private State(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bidnbuy.server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// 작업 종류별 스케줄러 스레드 풀 (느린 작업이 경매 마감을 막지 않도록 분리)
+// @Scheduled(scheduler = "...")로 지정하지 않은 작업은 taskScheduler 에서 실행
+@Configuration
+public class SchedulerConfig {
+
+    @Value("${scheduler.default.pool-size:2}")
+    private int defaultPoolSize;
+
+    // 마감 스윕, 마감 타이머 갱신, 노드 heartbeat
+    @Value("${scheduler.auction-closing.pool-size:3}")
+    private int auctionClosingPoolSize;
+
+    @Value("${scheduler.order-cancel.pool-size:1}")
+    private int orderCancelPoolSize;
+
+    @Value("${scheduler.suspension.pool-size:1}")
+    private int suspensionPoolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return scheduler("scheduling-", defaultPoolSize);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler auctionClosingScheduler() {
+        return scheduler("auction-closing-scheduler-", auctionClosingPoolSize);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler orderCancelScheduler() {
+        return scheduler("order-cancel-scheduler-", orderCancelPoolSize);
+    }
+
+    // SuspensionScheduler 컴포넌트와 빈 이름이 겹치지 않도록 suspensionTaskScheduler
+    @Bean
+    public ThreadPoolTaskScheduler suspensionTaskScheduler() {
+        return scheduler("suspension-scheduler-", suspensionPoolSize);
+    }
+
+    private ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setPoolSize(poolSize);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
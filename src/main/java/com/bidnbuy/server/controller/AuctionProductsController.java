@@ -3,6 +3,7 @@ package com.bidnbuy.server.controller;
 import com.bidnbuy.server.dto.*;
 import com.bidnbuy.server.entity.AuctionProductsEntity;
 import com.bidnbuy.server.service.AuctionProductsService;
+import com.bidnbuy.server.util.ConditionalGetSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -14,11 +15,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
 public class AuctionProductsController {
 
     private final AuctionProductsService auctionProductsService; // 변경
+    private final ConditionalGetSupport conditionalGetSupport;
 
     @Operation(summary = "상품 등록 API", description = "상품 등록")
     @ApiResponses({
@@ -112,6 +116,68 @@ public class AuctionProductsController {
         return ResponseEntity.ok(list);
     }
 
+    @Operation(summary = "경매 상품 커서 조회 API",
+            description = "OFFSET/전체 개수 없이 이어서 조회 (무한 스크롤용). 응답의 nextCursor 를 cursor 로 보내면 다음 페이지를 조회합니다. "
+                    + "sortBy: latest, price_asc, price_desc, end_time")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponseDto<AuctionListResponseDto>> getAuctionsByCursor(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(defaultValue = "false") Boolean includeEnded,
+            @RequestParam(required = false) String searchKeyword,
+            @RequestParam(required = false) Long mainCategoryId,
+            @RequestParam(required = false) Long subCategoryId
+    ) {
+        CursorResponseDto<AuctionListResponseDto> list = auctionProductsService.getAuctionsByCursor(
+                userId,
+                cursor,
+                size,
+                minPrice,
+                maxPrice,
+                sortBy,
+                includeEnded,
+                searchKeyword,
+                mainCategoryId,
+                subCategoryId
+        );
+        return ResponseEntity.ok(list);
+    }
+
+    @Operation(summary = "마감 임박 경매 API", description = "마감 시각이 가까운 진행 중 경매 상위 N개")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "limit 범위 오류 (1~100)")
+    })
+    @GetMapping("/ending-soon")
+    public ResponseEntity<List<AuctionListResponseDto>> getEndingSoon(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(auctionProductsService.getEndingSoon(limit, userId));
+    }
+
+    @Operation(summary = "지금 인기 경매 API", description = "최근 입찰/찜이 몰린 진행 중 경매 상위 N개")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "limit 범위 오류 (1~100)")
+    })
+    @GetMapping("/hot")
+    public ResponseEntity<List<AuctionListResponseDto>> getHotNow(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(auctionProductsService.getHotNow(limit, userId));
+    }
+
     @Operation(summary = "사용자 상품 상세 조회 API", description = "사용자 상품 상세 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상세조회 성공"),
@@ -121,10 +187,17 @@ public class AuctionProductsController {
     public ResponseEntity<?> getAuctionFind(
             @AuthenticationPrincipal Long userId,
             @Parameter(description = "조회할 경매 상품 ID", required = true)
-            @PathVariable Long auctionId
+            @PathVariable Long auctionId,
+            WebRequest webRequest
     ) {
-        AuctionFindDto find = auctionProductsService.getAuctionFind(auctionId, userId);
-        return ResponseEntity.ok(find);
+        // 가격/입찰 수/찜 등이 그대로면 본문 없이 304 (내 찜 여부가 들어가므로 private)
+        AuctionFindDto find = auctionProductsService.getAuctionFind(auctionId, userId,
+                etag -> conditionalGetSupport.notModified(webRequest, "auction.detail", etag));
+        if (find == null) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(conditionalGetSupport.sample("auction.detail", find));
     }
 
     @Operation(summary = "사용자 상품 삭제 API", description = "사용자 상품 삭제")
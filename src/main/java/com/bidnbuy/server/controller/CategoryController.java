@@ -2,6 +2,7 @@ package com.bidnbuy.server.controller;
 
 import com.bidnbuy.server.dto.CategoryDto;
 import com.bidnbuy.server.service.CategoryService;
+import com.bidnbuy.server.util.ConditionalGetSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,6 +31,9 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private ConditionalGetSupport conditionalGetSupport;
+
     @Operation(summary = "카테고리 대분류 소분류", description = "카테고리 대분류 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -35,7 +41,7 @@ public class CategoryController {
             @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @GetMapping("/top")
-    public ResponseEntity<?> topLevelCategory(jakarta.servlet.http.HttpServletRequest request) {
+    public ResponseEntity<?> topLevelCategory(jakarta.servlet.http.HttpServletRequest request, WebRequest webRequest) {
         try {
             // 임시 디버그 로그(ip 관련 헤더 확인)
             String xff = request.getHeader("X-Forwarded-For");
@@ -46,9 +52,15 @@ public class CategoryController {
             log.info("[IP-Debug] X-Forwarded-For={}, CF-Connecting-IP={}, CloudFront-Viewer-Address={}, X-Real-IP={}, remoteAddr={}",
                     xff, cfcIp, cfViewerAddr, xRealIp, remoteAddr);
 
+            // 카테고리 트리가 그대로면 본문 없이 304
+            String etag = categoryService.currentETag();
+            if (conditionalGetSupport.notModified(webRequest, "category.top", etag)) {
+                return null;
+            }
             List<CategoryDto> top = categoryService.findAllCategoryType();
 
-            return ResponseEntity.ok(top);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                    .body(conditionalGetSupport.sample("category.top", top));
         }catch (Exception e) {
             log.error("최상위 카테고리 목록 조회 중 오류 발생", e);
             return ResponseEntity.badRequest().build();
@@ -63,11 +75,18 @@ public class CategoryController {
             @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @GetMapping("/children/{parentId}")
-    public ResponseEntity<List<CategoryDto>> getChildrenCategories(@PathVariable Long parentId) {
+    public ResponseEntity<List<CategoryDto>> getChildrenCategories(@PathVariable Long parentId, WebRequest webRequest) {
         try {
+            // ETag 를 먼저 읽는다 (사이에 트리가 바뀌어도 다음 요청에서 새로 받도록)
+            String etag = categoryService.currentETag();
             List<CategoryDto> children = categoryService.findChildrenByParentId(parentId);
 
-            return ResponseEntity.ok(children);
+            if (conditionalGetSupport.notModified(webRequest, "category.children", etag)) {
+                return null;
+            }
+
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                    .body(conditionalGetSupport.sample("category.children", children));
 
         } catch (IllegalArgumentException e) {
             log.warn("유효하지 않은 부모 ID 요청: {}", parentId);
@@ -87,15 +106,21 @@ public class CategoryController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/{categoryId}")
-    public ResponseEntity<CategoryDto> getCategoryDetails(@PathVariable Long categoryId) {
+    public ResponseEntity<CategoryDto> getCategoryDetails(@PathVariable Long categoryId, WebRequest webRequest) {
         try {
+            String etag = categoryService.currentETag();
             CategoryDto category = categoryService.findById(categoryId);
 
             if (category == null) {
                 return ResponseEntity.notFound().build();
             }
 
-            return ResponseEntity.ok(category);
+            if (conditionalGetSupport.notModified(webRequest, "category.detail", etag)) {
+                return null;
+            }
+
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                    .body(conditionalGetSupport.sample("category.detail", category));
         } catch (Exception e) {
             log.error("단일 카테고리 조회 중 오류 발생. ID: {}", categoryId, e);
             return ResponseEntity.internalServerError().build();
@@ -4,6 +4,7 @@ import com.bidnbuy.server.dto.ChatMessageDto;
 import com.bidnbuy.server.dto.ChatRoomCreateRequestDto;
 import com.bidnbuy.server.dto.ChatRoomDto;
 import com.bidnbuy.server.dto.ChatRoomListDto;
+import com.bidnbuy.server.dto.CursorResponseDto;
 import com.bidnbuy.server.security.CustomUserDetailsService;
 import com.bidnbuy.server.service.ChatMessageService;
 import com.bidnbuy.server.service.ChatRoomService;
@@ -106,6 +107,39 @@ public class ChatRoomController {
         return ResponseEntity.ok(messages);
     }
 
+    @Operation(
+        summary ="채팅방의 메시지 커서 조회",
+        description = "최신 페이지부터 조회, 위로 스크롤 시 before=nextCursor, 놓친 메시지는 after=마지막 메시지 ID (응답은 항상 오래된 순)",
+        tags={"체팅 방 관련 API"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "메시지 페이지 조회",
+            content = @Content(schema = @Schema(implementation = CursorResponseDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "before/after 동시 지정 또는 잘못된 페이지 크기"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 정보 없음",
+            content = @Content(schema = @Schema(type = "string", example = "인증되지 않은 사용자"))
+        )
+    })
+    //메세지 커서 조회 (최신 페이지 조회 시 읽음 처리)
+    @GetMapping("/{chatroomId}/message/scroll")
+    public ResponseEntity<CursorResponseDto<ChatMessageDto>> getChatMessagesByCursor(
+            @PathVariable("chatroomId") Long chatroomId,
+            @AuthenticationPrincipal Long currentUserId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "30") int size){
+
+        return ResponseEntity.ok(chatMessageService.getMessagesByCursor(chatroomId, currentUserId, before, after, size));
+    }
+
     @Operation(
         summary = "참여 중인 채팅방 목록 조회",
         description = "사용자가 참여한, 참여된 모든 채팅방 목록을 최신 메시지와 함께 조회",
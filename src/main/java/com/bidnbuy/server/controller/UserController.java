@@ -6,6 +6,7 @@ import com.bidnbuy.server.enums.TradeFilterStatus;
 import com.bidnbuy.server.exception.CustomAuthenticationException;
 import com.bidnbuy.server.security.JwtProvider;
 import com.bidnbuy.server.service.*;
+import com.bidnbuy.server.util.ConditionalGetSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,6 +22,7 @@ import org.checkerframework.checker.units.qual.A;
 import org.checkerframework.checker.units.qual.C;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -29,6 +31,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.view.RedirectView;
 
@@ -58,15 +61,17 @@ public class   UserController {
     private final EmailService emailService;
     private final ImageService imageService;
     private final AuctionResultService auctionResultService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     @Autowired
-    public UserController(UserService userService, AuthService authService, JwtProvider jwtProvider, EmailService emailService, ImageService imageService, AuctionResultService auctionResultService){
+    public UserController(UserService userService, AuthService authService, JwtProvider jwtProvider, EmailService emailService, ImageService imageService, AuctionResultService auctionResultService, ConditionalGetSupport conditionalGetSupport){
         this.userService = userService;
         this.authService = authService;
         this.jwtProvider = jwtProvider;
         this.emailService = emailService;
         this.imageService = imageService;
         this.auctionResultService = auctionResultService;
+        this.conditionalGetSupport = conditionalGetSupport;
     }
 
     @Value("${naver.client.id}")
@@ -381,7 +386,13 @@ public class   UserController {
             @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @GetMapping("/{userId}/profile")
-    public ResponseEntity<?> getProfileImage(@AuthenticationPrincipal Long userId) {
+    public ResponseEntity<?> getProfileImage(@AuthenticationPrincipal Long userId, WebRequest webRequest) {
+
+        // 유저 정보가 그대로면 본문 없이 304 (기본 이미지는 base64 라 본문이 크다)
+        String etag = userService.getProfileETag(userId, "profile");
+        if (conditionalGetSupport.notModified(webRequest, "user.profile-image", etag)) {
+            return null;
+        }
 
         String profileImage = userService.getProfileImageUrl(userId);
 
@@ -389,7 +400,8 @@ public class   UserController {
                 .profileImageUrl(profileImage)
                 .build();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(conditionalGetSupport.sample("user.profile-image", response));
     }
 
     // 닉네임 조회
@@ -400,14 +412,20 @@ public class   UserController {
             @ApiResponse(responseCode = "401", description = "인증 실패")
     })
     @GetMapping("/{userId}/nickname")
-    public ResponseEntity<?> geteNickName(@AuthenticationPrincipal Long userId) {
+    public ResponseEntity<?> geteNickName(@AuthenticationPrincipal Long userId, WebRequest webRequest) {
+
+        String etag = userService.getProfileETag(userId, "nickname");
+        if (conditionalGetSupport.notModified(webRequest, "user.nickname", etag)) {
+            return null;
+        }
 
         String nickname = userService.getNickName(userId);
 
         UserNickNameDto response = UserNickNameDto.builder()
                 .nickname(nickname)
                 .build();
-        return  ResponseEntity.ok(response);
+        return  ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .body(conditionalGetSupport.sample("user.nickname", response));
     }
 
     // 닉네임 업데이트
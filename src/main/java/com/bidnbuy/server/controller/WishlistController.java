@@ -1,6 +1,7 @@
 package com.bidnbuy.server.controller;
 
 import com.bidnbuy.server.dto.AuctionCreationResponseDto;
+import com.bidnbuy.server.dto.CursorResponseDto;
 import com.bidnbuy.server.dto.WishlistDto;
 import com.bidnbuy.server.dto.WishlistResponseDto;
 import com.bidnbuy.server.enums.WishlistFilterStatus;
@@ -49,6 +50,43 @@ public class WishlistController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "경매 상품 찜 등록", description = "경매 상품 찜 등록 (이미 찜한 상품이면 상태 그대로 반환)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "찜 등록 성공",
+                    content = @Content(schema = @Schema(implementation = WishlistDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "본인이 등록한 상품"),
+            @ApiResponse(responseCode = "404", description = "해당 ID의 상품을 찾을 수 없음")
+    })
+    @PutMapping("/{auctionId}/like")
+    public ResponseEntity<?> putLike(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long auctionId
+    ) {
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(wishlistService.putLike(userId, auctionId));
+    }
+
+    @Operation(summary = "경매 상품 찜 취소", description = "경매 상품 찜 취소 (찜하지 않은 상품이면 상태 그대로 반환)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "찜 취소 성공",
+                    content = @Content(schema = @Schema(implementation = WishlistDto.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "404", description = "해당 ID의 상품을 찾을 수 없음")
+    })
+    @DeleteMapping("/{auctionId}/like")
+    public ResponseEntity<?> deleteLike(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long auctionId
+    ) {
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(wishlistService.deleteLike(userId, auctionId));
+    }
+
     @Operation(summary = "경매 상품 찜 조회 소분류", description = "경매 상품 찜 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "찜 조회 성공",
@@ -70,4 +108,23 @@ public class WishlistController {
         return ResponseEntity.ok(response);
     }
 
-}
\ No newline at end of file
+    @Operation(summary = "경매 상품 찜 조회 (커서)", description = "최근 찜한 순 커서 페이지 조회, status: ALL | PROGRESS | FINISHED")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "찜 조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<?> likelistByCursor(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "ALL") WishlistFilterStatus status
+    ) {
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(wishlistService.getWishlistByCursor(userId, status, cursor, size));
+    }
+}
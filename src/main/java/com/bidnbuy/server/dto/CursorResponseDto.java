@@ -0,0 +1,16 @@
+package com.bidnbuy.server.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답 (다음 페이지는 nextCursor 를 그대로 다시 보내서 조회)
+@Getter
+@Builder
+public class CursorResponseDto<T> {
+    private List<T> data;
+    private String nextCursor;
+    private boolean hasNext;
+    private int pageSize;
+}
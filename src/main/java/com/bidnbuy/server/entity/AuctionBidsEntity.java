@@ -15,8 +15,10 @@ import java.time.LocalDateTime;
 @Data
 @Entity
 // 경매 시스템에서 자주바뀌는게 상품과 최고가이며 최고가를 찾기 위해서 @인덱스 사용
+// 인기 점수 적재는 최근 입찰(bid_time 범위)만 읽으므로 (bid_time, auction_id) 인덱스로 테이블을 거치지 않고 읽음
 @Table(name = "Auction_Bids", indexes = { @Index(name = "auction_price",
-        columnList = "auction_id, bid_price DESC")})
+        columnList = "auction_id, bid_price DESC"),
+        @Index(name = "bid_recent", columnList = "bid_time, auction_id")})
 public class AuctionBidsEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,7 +20,12 @@ import java.util.List;
 @AllArgsConstructor
 @Data
 @Entity
-@Table(name = "Auction_Products")
+// 목록 정렬 키별 인덱스 (deleted_at IS NULL 범위를 정렬 컬럼 순으로 읽고 판매 상태는 읽으면서 거름)
+// selling_status IN (...) 을 인덱스 앞쪽에 두면 상태별 구간을 합쳐야 해서 ORDER BY 에 filesort 가 붙는다
+@Table(name = "Auction_Products", indexes = {
+        @Index(name = "list_by_created_at", columnList = "deleted_at, created_at"),
+        @Index(name = "list_by_current_price", columnList = "deleted_at, current_price"),
+        @Index(name = "list_by_end_time", columnList = "deleted_at, end_time")})
 public class AuctionProductsEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -58,6 +63,16 @@ public class AuctionProductsEntity {
     @Column(name = "bid_count", nullable = false)
     private Integer bidCount = 0;
 
+    // 목록 조회용 비정규화 컬럼 (찜/등록 시 함께 갱신하고, 어긋난 값은 주기 작업이 wish_list/image 기준으로 보정)
+    // 찜 수는 UPDATE 증감으로만 바꾼다 (엔티티 저장 시 읽어둔 값으로 덮어쓰지 않도록 updatable = false)
+    @ColumnDefault("0")
+    @Column(name = "wish_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer wishCount = 0;
+
+    @Column(name = "main_image_url")
+    private String mainImageUrl;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "selling_status", nullable = false)
     private SellingStatus sellingStatus;
@@ -95,6 +110,9 @@ public class AuctionProductsEntity {
     }
 
     public String getMainImageUrl() {
+        if (this.mainImageUrl != null) {
+            return this.mainImageUrl;
+        }
         if (this.images == null || this.images.isEmpty()) {
             return null;
         }
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name="ChatMessage")
+@Table(name="ChatMessage", indexes = {
+        // 채팅방 메시지 커서 페이지
+        @Index(name = "chat_room_message", columnList = "chatroom_id, chatmessage_id")
+})
 public class ChatMessageEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,28 @@
+package com.bidnbuy.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스케줄러 임대(lease): 노드 생존 신호(node:*)와 단일 실행 작업(job:*)의 소유권
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name="Scheduler_Lease")
+public class SchedulerLeaseEntity {
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String leaseName;
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime expiresAt;
+}
@@ -22,7 +22,8 @@ import java.util.List;
 @Table(name = "User", uniqueConstraints = {
         @UniqueConstraint(name = "UC_EmailAndDeletedAt", columnNames = {"email", "deleted_at"}),
 })
-@SQLDelete(sql = "UPDATE user SET deleted_at = CURRENT_TIMESTAMP WHERE user_id = ?")
+// updated_at 도 함께 바꿔야 프로필/판매자 ETag 가 탈퇴를 반영한다
+@SQLDelete(sql = "UPDATE user SET deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE user_id = ?")
 //@SQLRestriction("deleted_at IS NULL")
 public class UserEntity {
     @Id
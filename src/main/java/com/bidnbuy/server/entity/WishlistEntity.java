@@ -20,6 +20,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name="WishList", uniqueConstraints = {
         @UniqueConstraint(name = "USER_AUCTION_WISH", columnNames = {"user_id", "auction_id"})
+}, indexes = {
+        // 내 찜 목록 최근순 페이지
+        @Index(name = "wish_user_recent", columnList = "user_id, wishlist_id"),
+        // 인기 점수 적재용 최근 찜 (created_at 범위, auction_id 까지 인덱스에서 읽음)
+        @Index(name = "wish_recent", columnList = "created_at, auction_id")
 })
 public class WishlistEntity {
     @Id
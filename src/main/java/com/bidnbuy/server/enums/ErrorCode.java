@@ -18,6 +18,7 @@ public enum ErrorCode {
     EXPIRED_AUCTION_TIME(BAD_REQUEST, "경매 시간이 종료되었습니다", 400),
     INVALID_MIN_BID(BAD_REQUEST, "최소 입찰 단위를 충족해야 합니다", 400),
     LOWER_THAN_CURRENT_PRICE(BAD_REQUEST, "이미 더 높은 입찰가가 존재합니다", 400),
+    INVALID_CURSOR(BAD_REQUEST, "잘못된 페이지 커서입니다", 400),
 
     // 401 UNAUTHORIZED : 인증되지 않은 사용자
     UNAUTHORIZED_REQUEST(UNAUTHORIZED, "Unauthorized.", 401),
@@ -28,6 +29,7 @@ public enum ErrorCode {
     // 403 Forbidden : 자원에 대한 권한 없음
     INVALID_AUTH(FORBIDDEN, "권한이 없습니다", 403),
     SELF_BIDDING_FORBIDDEN(FORBIDDEN, "자신의 경매 물품에는 입찰할 수 없습니다", 403),
+    SELF_WISH_FORBIDDEN(FORBIDDEN, "자신이 등록한 경매 물품은 찜 할 수 없습니다", 403),
 
     // 404 Not Found : 요청한 URI에 대한 리소스 없음
     INVALID_RESOURCE(NOT_FOUND, "요청한 리소스가 없습니다", 404),
@@ -38,7 +40,10 @@ public enum ErrorCode {
     INVALID_METHOD(METHOD_NOT_ALLOWED, "지원하지 않는 Method 입니다.", 405),
 
     // 500 INTERNAL_SERVER_ERROR : 서버 에러
-    SERVER_ERROR(INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.", 500);
+    SERVER_ERROR(INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.", 500),
+
+    // 503 Service Unavailable : 일시적으로 처리 불가
+    BID_TIMEOUT(SERVICE_UNAVAILABLE, "입찰 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요", 503);
 
     private final HttpStatus httpStatus;
     private final String message;
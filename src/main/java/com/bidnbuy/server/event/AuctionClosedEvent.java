@@ -0,0 +1,8 @@
+package com.bidnbuy.server.event;
+
+import com.bidnbuy.server.enums.ResultStatus;
+
+// 경매 종료 이벤트 (이력 기록, 낙찰자/판매자 알림)
+public record AuctionClosedEvent(Long auctionId, Long sellerId, Long winnerId, Integer finalPrice,
+                                 ResultStatus resultStatus) {
+}
@@ -0,0 +1,5 @@
+package com.bidnbuy.server.event;
+
+// 경매 등록 이벤트 (이력 기록, 판매자 알림)
+public record AuctionCreatedEvent(Long auctionId, Long sellerId) {
+}
@@ -0,0 +1,135 @@
+package com.bidnbuy.server.event;
+
+import com.bidnbuy.server.dto.BidUpdateDto;
+import com.bidnbuy.server.enums.AuctionStatus;
+import com.bidnbuy.server.enums.NotificationType;
+import com.bidnbuy.server.enums.ResultStatus;
+import com.bidnbuy.server.service.AuctionBroadcastCoalescer;
+import com.bidnbuy.server.service.AuctionFeed;
+import com.bidnbuy.server.service.AuctionHistoryService;
+import com.bidnbuy.server.service.AuctionListCache;
+import com.bidnbuy.server.service.UserNotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 경매 도메인 이벤트 후속 처리
+ * - 커밋 이후(트랜잭션 밖에서 발행되면 즉시) 전용 스레드 풀에서 실행되므로 DB 잠금/트랜잭션 시간에 포함되지 않는다.
+ * - 큐가 가득 차면 발행 스레드가 빈 자리가 날 때까지 기다린다. (후속 작업을 버리지 않음, 애플리케이션 종료 중에만 버림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionEventListener {
+
+    private final AuctionBroadcastCoalescer auctionBroadcastCoalescer;
+    private final AuctionHistoryService auctionHistoryService;
+    private final UserNotificationService userNotificationService;
+    private final AuctionListCache auctionListCache;
+    private final AuctionFeed auctionFeed;
+
+    @Value("${auction.event.workers:4}")
+    private int workerCount;
+
+    @Value("${auction.event.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("auction-event-"),
+                (task, pool) -> {
+                    // 종료 중이면 기다리지 않고 버린다 (기다리는 도중 종료돼도 빠져나오도록 짧게 나눠 대기)
+                    try {
+                        while (!pool.isShutdown()) {
+                            if (pool.getQueue().offer(task, 100, TimeUnit.MILLISECONDS)) {
+                                return;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(e);
+                    }
+                    log.warn("이벤트 처리 풀 종료 중이라 후속 처리를 버립니다: {}", task);
+                });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 입찰 반영 -> 목록 캐시 무효화, 피드 갱신, 웹소켓 브로드캐스트
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        run("BidPlaced", event.auctionId(), () -> {
+            auctionListCache.invalidateAuction(event.auctionId());
+            auctionFeed.onBid(event.auctionId(), event.bidPrice());
+            auctionBroadcastCoalescer.publish(BidUpdateDto.builder()
+                    .auctionId(event.auctionId())
+                    .currentPrice(event.bidPrice())
+                    .bidCount(event.bidCount())
+                    .lastBidderId(event.userId())
+                    .build());
+        });
+    }
+
+    // 경매 등록 -> 피드 추가, 이력 기록, 판매자 알림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionCreated(AuctionCreatedEvent event) {
+        run("AuctionCreated", event.auctionId(), () -> {
+            auctionFeed.add(event.auctionId());
+            auctionHistoryService.recordStatusChange(event.auctionId(), AuctionStatus.PROGRESS);
+            // 알림 추가 - kgb
+            userNotificationService.createNotification(event.sellerId(), NotificationType.ALERT, "경매가 등록되었습니다.");
+        });
+    }
+
+    // 경매 종료 -> 목록 캐시 무효화, 피드 제거, 이력 기록, 낙찰 시 낙찰자/판매자 알림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        run("AuctionClosed", event.auctionId(), () -> {
+            auctionListCache.invalidateAuction(event.auctionId());
+            auctionFeed.remove(event.auctionId());
+            auctionHistoryService.recordStatusChange(event.auctionId(), AuctionStatus.FINISHED);
+
+            if (event.resultStatus() != ResultStatus.SUCCESS_PENDING_PAYMENT || event.winnerId() == null) {
+                return;
+            }
+            // 시간지나서 자동 낙찰자 알림 발송
+            String winnerContent = "경매 종료! 최고 입찰자에게 낙찰 🎉 지금 채팅방으로 이동하기";
+            userNotificationService.createNotification(event.winnerId(), NotificationType.NOTICE, winnerContent);
+            log.info("낙찰자 알림 발송 완료 userId={}", event.winnerId());
+
+            // 판매자 알림
+            String sellerContent = "경매 종료! 귀하의 상품이 낙찰되었습니다. 채팅방에서 거래를 이어가세요.";
+            userNotificationService.createNotification(event.sellerId(), NotificationType.NOTICE, sellerContent);
+            log.info("판매자 알림 발송 완료 userId={}", event.sellerId());
+        });
+    }
+
+    private void run(String eventName, Long auctionId, Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("❌ {} 후속 처리 실패: Auction ID {} - {}", eventName, auctionId, e.getMessage(), e);
+            }
+        });
+    }
+}
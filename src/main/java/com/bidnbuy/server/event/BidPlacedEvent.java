@@ -0,0 +1,5 @@
+package com.bidnbuy.server.event;
+
+// 입찰이 반영(커밋)된 뒤 처리할 후속 작업용 이벤트
+public record BidPlacedEvent(Long auctionId, Long userId, Integer bidPrice, Integer bidCount) {
+}
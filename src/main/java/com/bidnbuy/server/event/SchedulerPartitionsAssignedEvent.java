@@ -0,0 +1,7 @@
+package com.bidnbuy.server.event;
+
+import java.util.Set;
+
+// 노드 구성 변경으로 이 노드가 새로 맡게 된 경매 파티션
+public record SchedulerPartitionsAssignedEvent(Set<Integer> gainedPartitions) {
+}
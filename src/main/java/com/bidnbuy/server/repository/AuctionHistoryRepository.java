@@ -3,8 +3,12 @@ package com.bidnbuy.server.repository;
 import com.bidnbuy.server.dto.AuctionHistoryDto;
 import com.bidnbuy.server.entity.AuctionHistoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +20,11 @@ public interface AuctionHistoryRepository extends JpaRepository<AuctionHistoryEn
 
     // 특정 경매 상품의 가장 최근 상태 변경 이력 1개를 조회
     Optional<AuctionHistoryEntity> findTopByAuctionProduct_AuctionIdOrderByBidTimeDesc(Long auctionId);
+
+    // 유찰 일괄 마감: 진행 중 -> 종료 이력을 한 번에 기록
+    @Modifying
+    @Query(value = "INSERT INTO auction_history (auction_id, previos_status, new_status, bid_time) " +
+            "SELECT auction_id, 'PROGRESS', 'FINISHED', :now FROM auction_products WHERE auction_id IN (:auctionIds)",
+            nativeQuery = true)
+    int insertFinishedHistories(@Param("auctionIds") List<Long> auctionIds, @Param("now") LocalDateTime now);
 }
@@ -11,11 +11,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.bidnbuy.server.repository.projection.AuctionListProjection;
 import com.bidnbuy.server.repository.projection.AuctionDetailProjection;
+import com.bidnbuy.server.repository.projection.AuctionLiveProjection;
+import com.bidnbuy.server.repository.projection.AuctionScoreProjection;
+import com.bidnbuy.server.repository.projection.AuctionDeadlineProjection;
+import com.bidnbuy.server.repository.projection.AuctionTitleProjection;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -101,11 +106,128 @@ public interface AuctionProductsRepository extends JpaRepository<AuctionProducts
     @Query("SELECT a FROM AuctionProductsEntity a WHERE a.auctionId = :auctionId")
     Optional<AuctionProductsEntity> findByIdWithLock(Long auctionId);
 
+    // 잠금 없는 입찰 반영: 조건을 모두 만족할 때만 1건 갱신 (아니면 0건 -> 입찰 실패)
+    // 입찰 처리기도 메모리 사본 검증 후 이 쿼리로 반영한다 (마감 처리와 엇갈려도 종료된 경매에는 반영되지 않도록)
+    @Modifying
+    @Query(value = "UPDATE auction_products " +
+            "SET current_price = :bidPrice, bid_count = bid_count + 1 " +
+            "WHERE auction_id = :auctionId " +
+            "  AND user_id <> :userId " +
+            "  AND deleted_at IS NULL " +
+            "  AND selling_status = 'PROGRESS' " +
+            "  AND end_time > :now " +
+            "  AND current_price < :bidPrice " +
+            "  AND current_price + COALESCE(min_bid_price, 0) <= :bidPrice",
+            nativeQuery = true)
+    int compareAndSetBid(@Param("auctionId") Long auctionId,
+                         @Param("userId") Long userId,
+                         @Param("bidPrice") Integer bidPrice,
+                         @Param("now") LocalDateTime now);
+
+    // 일괄 마감 대상 중 입찰이 하나도 없는 경매를 골라 행 잠금
+    // bid_count 는 잠근 현재 행에서 평가된다 (NOT EXISTS 서브쿼리는 스냅샷 읽기라 방금 커밋된 입찰을 못 볼 수 있음)
+    @Query(value = "SELECT p.auction_id FROM auction_products p " +
+            "WHERE p.auction_id IN (:auctionIds) " +
+            "  AND p.deleted_at IS NULL " +
+            "  AND p.selling_status NOT IN ('FINISH', 'COMPLETED') " +
+            "  AND p.end_time < :now " +
+            "  AND p.bid_count = 0 " +
+            "  AND NOT EXISTS (SELECT 1 FROM auction_bids b WHERE b.auction_id = p.auction_id) " +
+            "FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockExpiredAuctionIdsWithoutBids(@Param("auctionIds") List<Long> auctionIds,
+                                                @Param("now") LocalDateTime now);
+
+    // 유찰 경매 일괄 종료
+    @Modifying
+    @Query(value = "UPDATE auction_products SET selling_status = 'FINISH' WHERE auction_id IN (:auctionIds)",
+            nativeQuery = true)
+    int finishAuctions(@Param("auctionIds") List<Long> auctionIds);
+
+    @Query("SELECT p.bidCount FROM AuctionProductsEntity p WHERE p.auctionId = :auctionId")
+    Integer findBidCountById(@Param("auctionId") Long auctionId);
+
+    // 찜 등록/취소 시 찜 수 증감 (음수로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE auction_products SET wish_count = GREATEST(wish_count + :delta, 0) WHERE auction_id = :auctionId",
+            nativeQuery = true)
+    int adjustWishCount(@Param("auctionId") Long auctionId, @Param("delta") int delta);
+
+    // 찜 등록 전 찜 수 +1 (삭제/없는 경매, 본인 경매면 0건). 경매 행 X 잠금을 먼저 잡아 동시 찜끼리 잠금 순서를 맞춘다
+    @Modifying
+    @Query(value = "UPDATE auction_products SET wish_count = wish_count + 1\n" +
+            "WHERE auction_id = :auctionId\n" +
+            "  AND deleted_at IS NULL\n" +
+            "  AND (user_id IS NULL OR user_id <> :userId)",
+            nativeQuery = true)
+    int incrementWishCountIfLikable(@Param("auctionId") Long auctionId, @Param("userId") Long userId);
+
+    @Query("SELECT p.wishCount FROM AuctionProductsEntity p WHERE p.auctionId = :auctionId")
+    Integer findWishCountById(@Param("auctionId") Long auctionId);
+
+    @Query("SELECT MAX(p.auctionId) FROM AuctionProductsEntity p")
+    Long findMaxAuctionId();
+
+    // 비정규화 보정: 구간 내 경매의 wish_count 를 wish_list 기준으로 맞춘다 (어긋난 행만 갱신)
+    @Modifying
+    @Query(value = "UPDATE auction_products p\n" +
+            "LEFT JOIN (SELECT w.auction_id, COUNT(*) AS cnt FROM wish_list w\n" +
+            "           WHERE w.auction_id BETWEEN :fromId AND :toId GROUP BY w.auction_id) wc\n" +
+            "       ON wc.auction_id = p.auction_id\n" +
+            "SET p.wish_count = COALESCE(wc.cnt, 0)\n" +
+            "WHERE p.auction_id BETWEEN :fromId AND :toId\n" +
+            "  AND p.wish_count <> COALESCE(wc.cnt, 0)",
+            nativeQuery = true)
+    int reconcileWishCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 비정규화 보정: 구간 내 경매의 main_image_url 을 대표 이미지(MAIN 우선, 없으면 첫 이미지)로 맞춘다
+    @Modifying
+    @Query(value = "UPDATE auction_products p\n" +
+            "LEFT JOIN (SELECT i.auction_id,\n" +
+            "                  SUBSTRING_INDEX(GROUP_CONCAT(i.image_url ORDER BY CASE WHEN i.image_type = 'MAIN' THEN 0 ELSE 1 END, i.image_id SEPARATOR '\\n'), '\\n', 1) AS url\n" +
+            "           FROM image i WHERE i.auction_id BETWEEN :fromId AND :toId GROUP BY i.auction_id) mi\n" +
+            "       ON mi.auction_id = p.auction_id\n" +
+            "SET p.main_image_url = mi.url\n" +
+            "WHERE p.auction_id BETWEEN :fromId AND :toId\n" +
+            "  AND NOT (p.main_image_url <=> mi.url)",
+            nativeQuery = true)
+    int reconcileMainImageUrls(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
     List<AuctionProductsEntity> findByEndTimeBeforeAndSellingStatusNot(
             LocalDateTime now,
             SellingStatus sellingStatus
     );
 
+    // 마감 타이머 적재용: 삭제되지 않았고 아직 종료 처리되지 않은 경매의 마감 시간
+    @Query("SELECT p.auctionId AS auctionId, p.endTime AS endTime FROM AuctionProductsEntity p " +
+            "WHERE p.deletedAt IS NULL AND p.sellingStatus NOT IN :closedStatuses")
+    List<AuctionDeadlineProjection> findOpenAuctionDeadlines(@Param("closedStatuses") List<SellingStatus> closedStatuses);
+
+    // 마감 타이머 갱신용: 특정 시각 이후 등록된 경매의 마감 시간 (다른 노드에서 등록된 경매 포함)
+    @Query("SELECT p.auctionId AS auctionId, p.endTime AS endTime FROM AuctionProductsEntity p " +
+            "WHERE p.createdAt >= :since AND p.deletedAt IS NULL AND p.sellingStatus NOT IN :closedStatuses")
+    List<AuctionDeadlineProjection> findOpenAuctionDeadlinesCreatedAfter(@Param("since") LocalDateTime since,
+                                                                         @Param("closedStatuses") List<SellingStatus> closedStatuses);
+
+    // 제목 색인 적재용: 삭제되지 않은 경매의 제목 (auction_id 기준 keyset)
+    @Query("SELECT p.auctionId AS auctionId, p.title AS title FROM AuctionProductsEntity p " +
+            "WHERE p.deletedAt IS NULL AND p.auctionId > :afterId ORDER BY p.auctionId ASC")
+    List<AuctionTitleProjection> findTitlesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 제목 색인 갱신용: 특정 시각 이후 등록된 경매의 제목 (다른 노드에서 등록된 경매 포함)
+    @Query("SELECT p.auctionId AS auctionId, p.title AS title FROM AuctionProductsEntity p " +
+            "WHERE p.createdAt >= :since AND p.deletedAt IS NULL")
+    List<AuctionTitleProjection> findTitlesCreatedAfter(@Param("since") LocalDateTime since);
+
+    // 마감 안전망 스윕: 마감 시간이 지났는데 종료 처리되지 않은 경매 ID (afterId 이후부터 auction_id 순)
+    @Query("SELECT p.auctionId FROM AuctionProductsEntity p " +
+            "WHERE p.endTime < :now AND p.deletedAt IS NULL AND p.sellingStatus NOT IN :closedStatuses " +
+            "AND p.auctionId > :afterId ORDER BY p.auctionId")
+    List<Long> findExpiredOpenAuctionIdsAfter(@Param("now") LocalDateTime now,
+                                              @Param("afterId") Long afterId,
+                                              @Param("closedStatuses") List<SellingStatus> closedStatuses,
+                                              Pageable pageable);
+
     //판매 중인 상품 조회
     Optional<AuctionProductsEntity> findByAuctionIdAndSellingStatus(Long auctionId, SellingStatus sellingStatus);
 
@@ -155,8 +277,13 @@ public interface AuctionProductsRepository extends JpaRepository<AuctionProducts
             Pageable pageable
     );
 
-    // native projection queries
-    @Query(value = "\n" +
+    /*
+     * 경매 목록 네이티브 프로젝션 쿼리
+     * 정렬 키마다 ORDER BY 가 고정된 쿼리를 따로 둔다. (CASE 식 정렬은 인덱스를 못 타고 항상 filesort)
+     * 정렬 컬럼은 엔티티의 (deleted_at, 정렬 컬럼) 인덱스와 맞춰 둔다. (selling_status 는 인덱스를 읽으며 거르는 조건)
+     * 카테고리 조건은 호출 측에서 대분류를 하위 카테고리 ID 목록으로 펼쳐서 넘긴다. (category 조인 없음)
+     */
+    String LIST_SELECT = "\n" +
             "SELECT \n" +
             "  p.auction_id           AS auctionId,\n" +
             "  p.title                AS title,\n" +
@@ -167,118 +294,235 @@ public interface AuctionProductsRepository extends JpaRepository<AuctionProducts
             "  p.selling_status       AS sellingStatus,\n" +
             "  u.user_id              AS sellerId,\n" +
             "  CASE WHEN u.deleted_at IS NULL THEN u.nickname ELSE '탈퇴회원' END AS sellerNickname,\n" +
-            "  (SELECT i.image_url FROM image i\n" +
-            "    WHERE i.auction_id = p.auction_id\n" +
-            "    ORDER BY CASE WHEN i.image_type = 'MAIN' THEN 0 ELSE 1 END, i.image_id ASC\n" +
-            "    LIMIT 1)              AS mainImageUrl,\n" +
-            "  (SELECT COUNT(*) FROM wish_list w WHERE w.auction_id = p.auction_id) AS wishCount\n" +
+            "  p.main_image_url       AS mainImageUrl,\n" +
+            "  p.wish_count           AS wishCount\n";
+
+    String LIST_FROM = "" +
             "FROM auction_products p\n" +
-            "LEFT JOIN `user` u ON u.user_id = p.user_id\n" +
-            "LEFT JOIN category c ON c.category_id = p.category_id\n" +
-            "LEFT JOIN category pc ON pc.category_id = c.parent_id\n" +
+            "LEFT JOIN `user` u ON u.user_id = p.user_id\n";
+
+    String LIST_FILTER = "" +
             "WHERE p.deleted_at IS NULL\n" +
             "  AND p.selling_status IN (:statusNames)\n" +
             "  AND (:searchKeyword IS NULL OR p.title LIKE CONCAT('%', :searchKeyword, '%'))\n" +
+            "  AND (:useCandidates = 0 OR p.auction_id IN (:candidateIds))\n" +
             "  AND (:minPrice IS NULL OR p.current_price >= :minPrice)\n" +
             "  AND (:maxPrice IS NULL OR p.current_price <= :maxPrice)\n" +
-            "  AND ((:subCategoryId IS NULL AND :mainCategoryId IS NULL)\n" +
-            "       OR (:subCategoryId IS NOT NULL AND c.category_id = :subCategoryId)\n" +
-            "       OR (:mainCategoryId IS NOT NULL AND :subCategoryId IS NULL AND (pc.category_id = :mainCategoryId OR c.category_id = :mainCategoryId)))\n" +
-            "ORDER BY\n" +
-            "  CASE WHEN :sortKey = 'price_desc' THEN p.current_price END DESC,\n" +
-            "  CASE WHEN :sortKey = 'price_asc'  THEN p.current_price END ASC,\n" +
-            "  CASE WHEN :sortKey = 'end_time'   THEN p.end_time     END ASC,\n" +
-            "  CASE WHEN :sortKey = 'latest'     THEN p.created_at   END DESC,\n" +
-            "  p.created_at DESC\n",
-            countQuery = "\n" +
-                    "SELECT COUNT(*)\n" +
-                    "FROM auction_products p\n" +
-                    "LEFT JOIN category c ON c.category_id = p.category_id\n" +
-                    "LEFT JOIN category pc ON pc.category_id = c.parent_id\n" +
-                    "WHERE p.deleted_at IS NULL\n" +
-                    "  AND p.selling_status IN (:statusNames)\n" +
-                    "  AND (:searchKeyword IS NULL OR p.title LIKE CONCAT('%', :searchKeyword, '%'))\n" +
-                    "  AND (:minPrice IS NULL OR p.current_price >= :minPrice)\n" +
-                    "  AND (:maxPrice IS NULL OR p.current_price <= :maxPrice)\n" +
-                    "  AND ((:subCategoryId IS NULL AND :mainCategoryId IS NULL)\n" +
-                    "       OR (:subCategoryId IS NOT NULL AND c.category_id = :subCategoryId)\n" +
-                    "       OR (:mainCategoryId IS NOT NULL AND :subCategoryId IS NULL AND (pc.category_id = :mainCategoryId OR c.category_id = :mainCategoryId)))\n",
+            "  AND (:useCategories = 0 OR p.category_id IN (:categoryIds))\n";
+
+    // 페이지 번호 목록은 판매자 이메일 검색도 지원
+    String LIST_PAGE_FILTER = LIST_FILTER +
+            "  AND (:userEmail IS NULL OR u.email LIKE CONCAT('%', :userEmail, '%'))\n";
+
+    String LIST_PAGE_COUNT = "SELECT COUNT(*)\n" + LIST_FROM + LIST_PAGE_FILTER;
+
+    // 최신순
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_PAGE_FILTER +
+            "ORDER BY p.created_at DESC, p.auction_id DESC",
+            countQuery = LIST_PAGE_COUNT,
             nativeQuery = true)
-    Page<AuctionListProjection> findAuctionsNative(
+    Page<AuctionListProjection> findAuctionPageLatest(
+            @Param("userEmail") String userEmail,
             @Param("searchKeyword") String searchKeyword,
-            @Param("mainCategoryId") Long mainCategoryId,
-            @Param("subCategoryId") Long subCategoryId,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
             @Param("minPrice") Integer minPrice,
             @Param("maxPrice") Integer maxPrice,
             @Param("statusNames") List<String> statusNames,
-            @Param("sortKey") String sortKey,
             Pageable pageable
     );
 
-    @Query(value = "\n" +
-            "SELECT \n" +
-            "  p.auction_id           AS auctionId,\n" +
-            "  p.title                AS title,\n" +
-            "  p.current_price        AS currentPrice,\n" +
-            "  p.created_at           AS createdAt,\n" +
-            "  p.start_time           AS startTime,\n" +
-            "  p.end_time             AS endTime,\n" +
-            "  p.selling_status       AS sellingStatus,\n" +
-            "  u.user_id              AS sellerId,\n" +
-            "  CASE WHEN u.deleted_at IS NULL THEN u.nickname ELSE '탈퇴회원' END AS sellerNickname,\n" +
-            "  (SELECT i.image_url FROM image i\n" +
-            "    WHERE i.auction_id = p.auction_id\n" +
-            "    ORDER BY CASE WHEN i.image_type = 'MAIN' THEN 0 ELSE 1 END, i.image_id ASC\n" +
-            "    LIMIT 1)              AS mainImageUrl,\n" +
-            "  (SELECT COUNT(*) FROM wish_list w WHERE w.auction_id = p.auction_id) AS wishCount\n" +
-            "FROM auction_products p\n" +
-            "LEFT JOIN `user` u ON u.user_id = p.user_id\n" +
-            "LEFT JOIN category c ON c.category_id = p.category_id\n" +
-            "LEFT JOIN category pc ON pc.category_id = c.parent_id\n" +
-            "WHERE p.deleted_at IS NULL\n" +
-            "  AND p.selling_status IN (:statusNames)\n" +
-            "  AND u.email LIKE CONCAT('%', :userEmail, '%')\n" +
-            "  AND (:searchKeyword IS NULL OR p.title LIKE CONCAT('%', :searchKeyword, '%'))\n" +
-            "  AND (:minPrice IS NULL OR p.current_price >= :minPrice)\n" +
-            "  AND (:maxPrice IS NULL OR p.current_price <= :maxPrice)\n" +
-            "  AND ((:subCategoryId IS NULL AND :mainCategoryId IS NULL)\n" +
-            "       OR (:subCategoryId IS NOT NULL AND c.category_id = :subCategoryId)\n" +
-            "       OR (:mainCategoryId IS NOT NULL AND :subCategoryId IS NULL AND (pc.category_id = :mainCategoryId OR c.category_id = :mainCategoryId)))\n" +
-            "ORDER BY\n" +
-            "  CASE WHEN :sortKey = 'price_desc' THEN p.current_price END DESC,\n" +
-            "  CASE WHEN :sortKey = 'price_asc'  THEN p.current_price END ASC,\n" +
-            "  CASE WHEN :sortKey = 'end_time'   THEN p.end_time     END ASC,\n" +
-            "  CASE WHEN :sortKey = 'latest'     THEN p.created_at   END DESC,\n" +
-            "  p.created_at DESC\n",
-            countQuery = "\n" +
-                    "SELECT COUNT(*)\n" +
-                    "FROM auction_products p\n" +
-                    "LEFT JOIN `user` u ON u.user_id = p.user_id\n" +
-                    "LEFT JOIN category c ON c.category_id = p.category_id\n" +
-                    "LEFT JOIN category pc ON pc.category_id = c.parent_id\n" +
-                    "WHERE p.deleted_at IS NULL\n" +
-                    "  AND p.selling_status IN (:statusNames)\n" +
-                    "  AND u.email LIKE CONCAT('%', :userEmail, '%')\n" +
-                    "  AND (:searchKeyword IS NULL OR p.title LIKE CONCAT('%', :searchKeyword, '%'))\n" +
-                    "  AND (:minPrice IS NULL OR p.current_price >= :minPrice)\n" +
-                    "  AND (:maxPrice IS NULL OR p.current_price <= :maxPrice)\n" +
-                    "  AND ((:subCategoryId IS NULL AND :mainCategoryId IS NULL)\n" +
-                    "       OR (:subCategoryId IS NOT NULL AND c.category_id = :subCategoryId)\n" +
-                    "       OR (:mainCategoryId IS NOT NULL AND :subCategoryId IS NULL AND (pc.category_id = :mainCategoryId OR c.category_id = :mainCategoryId)))\n",
+    // 마감 임박순
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_PAGE_FILTER +
+            "ORDER BY p.end_time ASC, p.auction_id ASC",
+            countQuery = LIST_PAGE_COUNT,
             nativeQuery = true)
-    Page<AuctionListProjection> findAuctionsByUserEmailNative(
+    Page<AuctionListProjection> findAuctionPageByEndTime(
             @Param("userEmail") String userEmail,
             @Param("searchKeyword") String searchKeyword,
-            @Param("mainCategoryId") Long mainCategoryId,
-            @Param("subCategoryId") Long subCategoryId,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            Pageable pageable
+    );
+
+    // 가격 낮은순
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_PAGE_FILTER +
+            "ORDER BY p.current_price ASC, p.auction_id ASC",
+            countQuery = LIST_PAGE_COUNT,
+            nativeQuery = true)
+    Page<AuctionListProjection> findAuctionPageByPriceAsc(
+            @Param("userEmail") String userEmail,
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            Pageable pageable
+    );
+
+    // 가격 높은순
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_PAGE_FILTER +
+            "ORDER BY p.current_price DESC, p.auction_id DESC",
+            countQuery = LIST_PAGE_COUNT,
+            nativeQuery = true)
+    Page<AuctionListProjection> findAuctionPageByPriceDesc(
+            @Param("userEmail") String userEmail,
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
             @Param("minPrice") Integer minPrice,
             @Param("maxPrice") Integer maxPrice,
             @Param("statusNames") List<String> statusNames,
-            @Param("sortKey") String sortKey,
             Pageable pageable
     );
 
-    // 상세 네이티브 프로젝션 (삭제 유저 포함)
+    // 제목 검색 관련도순 (색인이 돌려준 후보 순서)
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_PAGE_FILTER +
+            "ORDER BY FIELD(p.auction_id, :candidateIds), p.auction_id DESC",
+            countQuery = LIST_PAGE_COUNT,
+            nativeQuery = true)
+    Page<AuctionListProjection> findAuctionPageByRelevance(
+            @Param("userEmail") String userEmail,
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            Pageable pageable
+    );
+
+
+    // 커서(keyset) 목록: 정렬 키별 seek 조건으로 마지막 행 다음부터 읽는다
+
+    // 최신순 (created_at DESC, auction_id DESC) 커서 이후
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_FILTER +
+            "  AND p.created_at <= :cursorAt AND (p.created_at < :cursorAt OR p.auction_id < :cursorId)\n" +
+            "ORDER BY p.created_at DESC, p.auction_id DESC\n" +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<AuctionListProjection> findLatestAfterCursor(
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    // 마감 임박순 (end_time ASC, auction_id ASC) 커서 이후
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_FILTER +
+            "  AND p.end_time >= :cursorAt AND (p.end_time > :cursorAt OR p.auction_id > :cursorId)\n" +
+            "ORDER BY p.end_time ASC, p.auction_id ASC\n" +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<AuctionListProjection> findEndTimeAfterCursor(
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    // 가격 낮은순 (current_price ASC, auction_id ASC) 커서 이후
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_FILTER +
+            "  AND p.current_price >= :cursorPrice AND (p.current_price > :cursorPrice OR p.auction_id > :cursorId)\n" +
+            "ORDER BY p.current_price ASC, p.auction_id ASC\n" +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<AuctionListProjection> findPriceAscAfterCursor(
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            @Param("cursorPrice") Integer cursorPrice,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    // 가격 높은순 (current_price DESC, auction_id DESC) 커서 이후
+    @Query(value = LIST_SELECT + LIST_FROM + LIST_FILTER +
+            "  AND p.current_price <= :cursorPrice AND (p.current_price < :cursorPrice OR p.auction_id < :cursorId)\n" +
+            "ORDER BY p.current_price DESC, p.auction_id DESC\n" +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<AuctionListProjection> findPriceDescAfterCursor(
+            @Param("searchKeyword") String searchKeyword,
+            @Param("useCandidates") int useCandidates,
+            @Param("candidateIds") List<Long> candidateIds,
+            @Param("useCategories") int useCategories,
+            @Param("categoryIds") List<Long> categoryIds,
+            @Param("minPrice") Integer minPrice,
+            @Param("maxPrice") Integer maxPrice,
+            @Param("statusNames") List<String> statusNames,
+            @Param("cursorPrice") Integer cursorPrice,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    // 피드(마감 임박/인기) 적재용: 아직 끝나지 않은 경매 전체
+    @Query(value = LIST_SELECT + LIST_FROM +
+            "WHERE p.deleted_at IS NULL\n" +
+            "  AND p.selling_status IN ('BEFORE', 'SALE', 'PROGRESS')\n" +
+            "  AND p.end_time > :now\n",
+            nativeQuery = true)
+    List<AuctionListProjection> findFeedCandidates(@Param("now") LocalDateTime now);
+
+    // 피드 추가용 단건 (등록 직후)
+    @Query(value = LIST_SELECT + LIST_FROM +
+            "WHERE p.deleted_at IS NULL\n" +
+            "  AND p.auction_id = :auctionId\n",
+            nativeQuery = true)
+    Optional<AuctionListProjection> findListRowById(@Param("auctionId") Long auctionId);
+
+    // 인기 점수 적재용: since 이후 입찰/찜을 반감기로 감쇠해 합산 (now 시점 기준 값)
+    @Query(value = "\n" +
+            "SELECT s.auction_id AS auctionId, SUM(s.w) AS score\n" +
+            "FROM (\n" +
+            "  SELECT b.auction_id, :bidWeight * POW(2, TIMESTAMPDIFF(SECOND, :now, b.bid_time) / :halfLifeSeconds) AS w\n" +
+            "  FROM auction_bids b WHERE b.bid_time >= :since\n" +
+            "  UNION ALL\n" +
+            "  SELECT wl.auction_id, :wishWeight * POW(2, TIMESTAMPDIFF(SECOND, :now, wl.created_at) / :halfLifeSeconds)\n" +
+            "  FROM wish_list wl WHERE wl.created_at >= :since\n" +
+            ") s\n" +
+            "GROUP BY s.auction_id\n",
+            nativeQuery = true)
+    List<AuctionScoreProjection> findActivityScores(@Param("now") LocalDateTime now,
+                                                    @Param("since") LocalDateTime since,
+                                                    @Param("halfLifeSeconds") long halfLifeSeconds,
+                                                    @Param("bidWeight") double bidWeight,
+                                                    @Param("wishWeight") double wishWeight);
+
+    // 상세 네이티브 프로젝션 (삭제 유저 포함, 찜 수까지 한 번에 / 내 찜 여부는 LikedAuctionCache)
     @Query(value = "\n" +
             "SELECT \n" +
             "  p.auction_id           AS auctionId,\n" +
@@ -295,12 +539,31 @@ public interface AuctionProductsRepository extends JpaRepository<AuctionProducts
             "  u.user_id              AS sellerId,\n" +
             "  CASE WHEN u.deleted_at IS NULL THEN u.nickname ELSE '탈퇴회원' END AS sellerNickname,\n" +
             "  u.profile_image_url    AS sellerProfileImageUrl,\n" +
-            "  u.user_temperature     AS sellerTemperature\n" +
+            "  u.user_temperature     AS sellerTemperature,\n" +
+            "  u.updated_at           AS sellerUpdatedAt,\n" +
+            "  p.wish_count           AS wishCount\n" +
+            "FROM auction_products p\n" +
+            "LEFT JOIN `user` u ON u.user_id = p.user_id\n" +
+            "WHERE p.deleted_at IS NULL\n" +
+            "  AND p.auction_id = :auctionId\n",
+            nativeQuery = true)
+    Optional<AuctionDetailProjection> findAuctionDetailNative(@Param("auctionId") Long auctionId);
+
+    // 상세의 자주 바뀌는 부분만 (정적인 부분은 캐시에서, 판매자 수정 시각은 캐시 검증/ETag 용)
+    @Query(value = "\n" +
+            "SELECT \n" +
+            "  p.current_price        AS currentPrice,\n" +
+            "  p.bid_count            AS bidCount,\n" +
+            "  p.selling_status       AS sellingStatus,\n" +
+            "  p.start_time           AS startTime,\n" +
+            "  p.end_time             AS endTime,\n" +
+            "  p.wish_count           AS wishCount,\n" +
+            "  u.updated_at           AS sellerUpdatedAt\n" +
             "FROM auction_products p\n" +
             "LEFT JOIN `user` u ON u.user_id = p.user_id\n" +
             "WHERE p.deleted_at IS NULL\n" +
             "  AND p.auction_id = :auctionId\n",
             nativeQuery = true)
-    java.util.Optional<AuctionDetailProjection> findAuctionDetailNative(@Param("auctionId") Long auctionId);
+    Optional<AuctionLiveProjection> findAuctionLiveNative(@Param("auctionId") Long auctionId);
 
 }
\ No newline at end of file
@@ -6,9 +6,11 @@ import com.bidnbuy.server.entity.OrderEntity;
 import com.bidnbuy.server.enums.ResultStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -74,4 +76,13 @@ public interface AuctionResultRepository extends JpaRepository<AuctionResultEnti
 
     // 중복 체크
     Optional<AuctionResultEntity> findFirstByAuction_AuctionId(Long auctionId);
+
+    // 유찰 일괄 마감: 현재가를 최종가로 하는 결과를 한 번에 기록 (result_status는 ordinal 저장)
+    @Modifying
+    @Query(value = "INSERT INTO auction_result (auction_id, result_status, final_price, closed_at) " +
+            "SELECT auction_id, :resultStatus, current_price, :now FROM auction_products WHERE auction_id IN (:auctionIds)",
+            nativeQuery = true)
+    int insertResults(@Param("auctionIds") List<Long> auctionIds,
+                      @Param("resultStatus") int resultStatus,
+                      @Param("now") LocalDateTime now);
 }
@@ -1,7 +1,9 @@
 package com.bidnbuy.server.repository;
 
 import com.bidnbuy.server.entity.CategoryEntity;
+import com.bidnbuy.server.repository.projection.CategoryNodeProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,9 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>
 
     // 대분류 속한 중분류 카테고리 조회
     List<CategoryEntity> findByParent_CategoryId(Long parentId);
-}
\ No newline at end of file
+
+    // 카테고리 트리 스냅샷 적재용 (전체 카테고리 한 번에)
+    @Query("SELECT c.categoryId AS categoryId, c.categoryName AS categoryName, p.categoryId AS parentId " +
+            "FROM CategoryEntity c LEFT JOIN c.parent p ORDER BY c.categoryId")
+    List<CategoryNodeProjection> findAllNodes();
+}
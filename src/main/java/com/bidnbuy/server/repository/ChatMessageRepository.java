@@ -3,6 +3,7 @@ package com.bidnbuy.server.repository;
 import com.bidnbuy.server.entity.ChatMessageEntity;
 import com.bidnbuy.server.entity.ChatRoomEntity;
 import com.bidnbuy.server.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -15,6 +16,21 @@ import java.util.List;
 public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity, Long> {
     List<ChatMessageEntity> findByChatroomIdOrderByCreateAt(ChatRoomEntity chatRoom);
 
+    // 커서 페이지 (chatroom_id, chatmessage_id 인덱스)
+    // before 보다 이전 메시지를 최신 것부터
+    @Query("SELECT m FROM ChatMessageEntity m " +
+            "WHERE m.chatroomId.chatroomId = :chatroomId AND m.chatmessageId < :before " +
+            "ORDER BY m.chatmessageId DESC")
+    List<ChatMessageEntity> findPageBefore(@Param("chatroomId") Long chatroomId, @Param("before") Long before,
+                                           Pageable pageable);
+
+    // after 보다 이후 메시지를 오래된 것부터
+    @Query("SELECT m FROM ChatMessageEntity m " +
+            "WHERE m.chatroomId.chatroomId = :chatroomId AND m.chatmessageId > :after " +
+            "ORDER BY m.chatmessageId ASC")
+    List<ChatMessageEntity> findPageAfter(@Param("chatroomId") Long chatroomId, @Param("after") Long after,
+                                          Pageable pageable);
+
     Long countByChatroomIdAndSenderIdNotAndIsRead(ChatRoomEntity chatRoom, UserEntity sender, boolean isRead);
 
     @Modifying
@@ -4,6 +4,7 @@ import com.bidnbuy.server.dto.ChatRoomListDto;
 import com.bidnbuy.server.entity.AuctionProductsEntity;
 import com.bidnbuy.server.entity.ChatRoomEntity;
 import com.bidnbuy.server.entity.UserEntity;
+import com.bidnbuy.server.repository.projection.ChatRoomListProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -34,6 +35,31 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoomEntity, Long>
             "WHERE (cr.buyerId = :user OR cr.sellerId = :user) AND cr.deletedAt IS NULL")
     List<ChatRoomEntity> findActiveRoomsByUserId(@Param("user") UserEntity user);
 
+    // 채팅방 목록: 상대방/경매 제목/대표 이미지/안 읽은 수까지 한 번에 (방 개수와 무관하게 쿼리 1회)
+    // 상대방이 탈퇴했으면 id 0 / '탈퇴회원', 경매가 없으면 '삭제된 상품' (삭제 처리된 경매는 제목 그대로)
+    @Query(value = "SELECT r.chatroom_id AS chatroomId, r.auction_id AS auctionId,\n" +
+            "  CASE WHEN cu.user_id IS NULL OR cu.deleted_at IS NOT NULL THEN 0 ELSE cu.user_id END AS counterpartId,\n" +
+            "  CASE WHEN cu.user_id IS NULL OR cu.deleted_at IS NOT NULL THEN '탈퇴회원' ELSE cu.nickname END AS counterpartNickname,\n" +
+            "  CASE WHEN cu.deleted_at IS NULL THEN cu.profile_image_url END AS counterpartProfileImageUrl,\n" +
+            "  COALESCE(p.title, '삭제된 상품') AS auctionTitle,\n" +
+            "  p.main_image_url AS auctionImageUrl,\n" +
+            "  r.last_message_time AS lastMessageTime,\n" +
+            "  r.last_message_preview AS lastMessagePreview,\n" +
+            "  COALESCE(uc.cnt, 0) AS unreadCount\n" +
+            "FROM chatroom r\n" +
+            "LEFT JOIN `user` cu ON cu.user_id = CASE WHEN r.buyer_id = :userId THEN r.seller_id ELSE r.buyer_id END\n" +
+            "LEFT JOIN auction_products p ON p.auction_id = r.auction_id\n" +
+            "LEFT JOIN (SELECT m.chatroom_id, COUNT(*) AS cnt\n" +
+            "           FROM chat_message m\n" +
+            "           JOIN chatroom mr ON mr.chatroom_id = m.chatroom_id\n" +
+            "           WHERE (mr.buyer_id = :userId OR mr.seller_id = :userId) AND mr.deleted_at IS NULL\n" +
+            "             AND m.is_read = 0 AND m.sender_id <> :userId\n" +
+            "           GROUP BY m.chatroom_id) uc ON uc.chatroom_id = r.chatroom_id\n" +
+            "WHERE (r.buyer_id = :userId OR r.seller_id = :userId) AND r.deleted_at IS NULL\n" +
+            "ORDER BY COALESCE(r.last_message_time, r.created_at) DESC, r.chatroom_id DESC",
+            nativeQuery = true)
+    List<ChatRoomListProjection> findRoomListByUserId(@Param("userId") Long userId);
+
     List<ChatRoomEntity> findByBuyerIdOrSellerIdAndDeletedAtIsNullOrderByLastMessageTime(UserEntity buyer, UserEntity seller);
 
     //구매자, 판매자, 경매상품으로 채팅방 찾기
@@ -0,0 +1,51 @@
+package com.bidnbuy.server.repository;
+
+import com.bidnbuy.server.entity.SchedulerLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 만료 시각은 노드 간 시계 차이가 없도록 DB 시간(NOW(6)) 기준으로 계산
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLeaseEntity, String> {
+
+    // 임대 행이 없으면 만료된 상태로 생성
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_lease (lease_name, owner_id, expires_at) " +
+            "VALUES (:leaseName, :ownerId, '1970-01-01 00:00:01')",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId);
+
+    // 내가 가진 임대이거나 만료된 임대면 획득/연장 (1건 = 소유)
+    @Modifying
+    @Query(value = "UPDATE scheduler_lease " +
+            "SET owner_id = :ownerId, expires_at = TIMESTAMPADD(MICROSECOND, :ttlMillis * 1000, NOW(6)) " +
+            "WHERE lease_name = :leaseName AND (owner_id = :ownerId OR expires_at < NOW(6))",
+            nativeQuery = true)
+    int acquireOrRenew(@Param("leaseName") String leaseName,
+                       @Param("ownerId") String ownerId,
+                       @Param("ttlMillis") long ttlMillis);
+
+    // 종료 시 임대 행 삭제 (다른 노드가 이미 가져간 임대는 건드리지 않음)
+    @Modifying
+    @Query(value = "DELETE FROM scheduler_lease WHERE lease_name = :leaseName AND owner_id = :ownerId",
+            nativeQuery = true)
+    int deleteLease(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId);
+
+    // 만료된 지 graceMillis 가 지난 노드 임대 행 정리 (종료 처리 없이 죽은 노드)
+    @Modifying
+    @Query(value = "DELETE FROM scheduler_lease " +
+            "WHERE lease_name LIKE 'node:%' AND expires_at < TIMESTAMPADD(MICROSECOND, -:graceMillis * 1000, NOW(6))",
+            nativeQuery = true)
+    int deleteExpiredNodes(@Param("graceMillis") long graceMillis);
+
+    // 생존 신호가 유효한 노드 ID 목록
+    @Query(value = "SELECT owner_id FROM scheduler_lease " +
+            "WHERE lease_name LIKE 'node:%' AND expires_at > NOW(6) ORDER BY owner_id",
+            nativeQuery = true)
+    List<String> findLiveNodeIds();
+}
@@ -34,6 +34,10 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Query(value = "SELECT * FROM user WHERE user_id = :userId", nativeQuery = true)
     Optional<UserEntity> findByIdIncludingDeleted(Long userId);
 
+    // 프로필 조회 ETag 용 (엔티티를 읽지 않고 버전만)
+    @Query(value = "SELECT updated_at FROM user WHERE user_id = :userId", nativeQuery = true)
+    Optional<java.time.LocalDateTime> findUpdatedAtById(Long userId);
+
     // 정지된 사용자 조회 (스케줄러용)
     List<UserEntity> findByIsSuspendedTrue();
     
@@ -3,12 +3,16 @@ package com.bidnbuy.server.repository;
 import com.bidnbuy.server.entity.AuctionProductsEntity;
 import com.bidnbuy.server.entity.UserEntity;
 import com.bidnbuy.server.entity.WishlistEntity;
+import com.bidnbuy.server.repository.projection.WishStateProjection;
+import com.bidnbuy.server.repository.projection.WishlistItemProjection;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import javax.swing.text.html.Option;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +40,59 @@ public interface WishlistRepository extends JpaRepository<WishlistEntity, Long>
             @Param("userId") Long userId,
             @Param("auctionIds") List<Long> auctionIds
     );
+
+    // 사용자가 찜한 경매 ID 전체 (LikedAuctionCache 적재용)
+    @Query(value = "SELECT auction_id FROM wish_list WHERE user_id = :userId", nativeQuery = true)
+    List<Long> findAuctionIdsByUserId(@Param("userId") Long userId);
+
+    // 찜 등록: 엔티티 조회 없이 id 로 (이미 있거나 없는 사용자면 0)
+    // 경매 존재/삭제/본인 여부는 먼저 실행한 찜 수 UPDATE 가 확인한다 (INSERT ... SELECT 는 경매 행에 S 잠금을 걸어 교착의 원인)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO wish_list (user_id, auction_id, created_at, is_deleted)\n" +
+            "VALUES (:userId, :auctionId, NOW(), 'N')",
+            nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("auctionId") Long auctionId);
+
+    // 찜 취소 (없으면 0)
+    @Modifying
+    @Query(value = "DELETE FROM wish_list WHERE user_id = :userId AND auction_id = :auctionId", nativeQuery = true)
+    int deleteLike(@Param("userId") Long userId, @Param("auctionId") Long auctionId);
+
+    // 찜 처리 후 응답용: 찜 수(비정규화 컬럼), 판매자, 내 찜 여부
+    @Query(value = "SELECT p.wish_count AS wishCount, p.user_id AS sellerId,\n" +
+            "  CASE WHEN EXISTS (SELECT 1 FROM wish_list w WHERE w.auction_id = p.auction_id AND w.user_id = :userId)\n" +
+            "       THEN 1 ELSE 0 END AS liked\n" +
+            "FROM auction_products p\n" +
+            "WHERE p.auction_id = :auctionId AND p.deleted_at IS NULL",
+            nativeQuery = true)
+    Optional<WishStateProjection> findWishState(@Param("userId") Long userId, @Param("auctionId") Long auctionId);
+
+    // 찜 목록 한 페이지 (최근 찜한 순, wishlist_id 키셋)
+    // 대표 이미지는 비정규화 컬럼, 판매자 닉네임은 같은 쿼리에서 조인
+    // statusGroup: ALL | PROGRESS(진행중/시작전) | FINISHED(종료/완료/삭제) -> calculateSellingStatus 라벨 기준과 같은 조건
+    @Query(value = "SELECT w.wishlist_id AS wishlistId, p.auction_id AS auctionId, p.title AS title,\n" +
+            "  p.main_image_url AS mainImageUrl, p.current_price AS currentPrice,\n" +
+            "  p.start_time AS startTime, p.end_time AS endTime, p.selling_status AS sellingStatus,\n" +
+            "  CASE WHEN u.user_id IS NOT NULL AND u.deleted_at IS NULL THEN u.nickname ELSE '탈퇴회원' END AS sellerNickname\n" +
+            "FROM wish_list w\n" +
+            "JOIN auction_products p ON p.auction_id = w.auction_id\n" +
+            "LEFT JOIN `user` u ON u.user_id = p.user_id\n" +
+            "WHERE w.user_id = :userId\n" +
+            "  AND w.wishlist_id < :cursorId\n" +
+            "  AND p.deleted_at IS NULL\n" +
+            "  AND (:statusGroup = 'ALL'\n" +
+            "    OR (:statusGroup = 'PROGRESS' AND (p.selling_status IN ('SALE', 'BEFORE')\n" +
+            "        OR (p.selling_status = 'PROGRESS' AND (p.end_time IS NULL OR p.end_time >= :now))))\n" +
+            "    OR (:statusGroup = 'FINISHED' AND (p.selling_status IN ('COMPLETED', 'FINISH', 'DELETED')\n" +
+            "        OR (p.selling_status = 'PROGRESS' AND p.end_time < :now))))\n" +
+            "ORDER BY w.wishlist_id DESC\n" +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<WishlistItemProjection> findWishlistPage(
+            @Param("userId") Long userId,
+            @Param("statusGroup") String statusGroup,
+            @Param("now") LocalDateTime now,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,8 @@
+package com.bidnbuy.server.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AuctionDeadlineProjection {
+    Long getAuctionId();
+    LocalDateTime getEndTime();
+}
@@ -2,21 +2,17 @@ package com.bidnbuy.server.repository.projection;
 
 import java.time.LocalDateTime;
 
-public interface AuctionDetailProjection {
+// 상세 = 자주 바뀌는 값(AuctionLiveProjection) + 정적인 값
+public interface AuctionDetailProjection extends AuctionLiveProjection {
     Long getAuctionId();
     String getTitle();
     String getDescription();
-    Integer getCurrentPrice();
     Integer getMinBidPrice();
-    Integer getBidCount();
-    LocalDateTime getStartTime();
     LocalDateTime getCreatedAt();
-    LocalDateTime getEndTime();
     Long getCategoryId();
 
     Long getSellerId();
     String getSellerNickname();
     String getSellerProfileImageUrl();
     Double getSellerTemperature();
-    String getSellingStatus();
-}
\ No newline at end of file
+}
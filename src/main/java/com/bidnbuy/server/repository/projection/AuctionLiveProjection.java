@@ -0,0 +1,14 @@
+package com.bidnbuy.server.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AuctionLiveProjection {
+    Integer getCurrentPrice();
+    Integer getBidCount();
+    String getSellingStatus();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+
+    Integer getWishCount();
+    LocalDateTime getSellerUpdatedAt();
+}
@@ -0,0 +1,6 @@
+package com.bidnbuy.server.repository.projection;
+
+public interface AuctionTitleProjection {
+    Long getAuctionId();
+    String getTitle();
+}
@@ -0,0 +1,7 @@
+package com.bidnbuy.server.repository.projection;
+
+public interface CategoryNodeProjection {
+    Long getCategoryId();
+    String getCategoryName();
+    Long getParentId();
+}
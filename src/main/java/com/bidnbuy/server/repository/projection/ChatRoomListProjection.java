@@ -0,0 +1,16 @@
+package com.bidnbuy.server.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ChatRoomListProjection {
+    Long getChatroomId();
+    Long getAuctionId();
+    Long getCounterpartId();
+    String getCounterpartNickname();
+    String getCounterpartProfileImageUrl();
+    String getAuctionTitle();
+    String getAuctionImageUrl();
+    LocalDateTime getLastMessageTime();
+    String getLastMessagePreview();
+    Long getUnreadCount();
+}
@@ -0,0 +1,7 @@
+package com.bidnbuy.server.repository.projection;
+
+public interface WishStateProjection {
+    Integer getWishCount();
+    Long getSellerId();
+    Integer getLiked();
+}
@@ -0,0 +1,15 @@
+package com.bidnbuy.server.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface WishlistItemProjection {
+    Long getWishlistId();
+    Long getAuctionId();
+    String getTitle();
+    String getMainImageUrl();
+    Integer getCurrentPrice();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+    String getSellingStatus();
+    String getSellerNickname();
+}
@@ -0,0 +1,597 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.config.ReplicaRoutingContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/*
+ * 입찰 저널 (auction.bid.journal.enabled=true 일 때만 동작, 입찰 처리기(sequencer) 모드 전용)
+ * - 단일 노드(auction.cluster.enabled=false)에서만 켤 수 있다. 미반영 입찰은 이 노드만 알고 있어서,
+ *   경매 마감을 다른 노드가 맡으면 저널에 남은 입찰이 DB 에 반영되기 전에 경매를 마감할 수 있다.
+ * - 통과한 입찰을 로컬 디스크의 메모리 매핑 파일에 순서대로 기록하고, 묶음 단위 fsync(그룹 커밋) 후 응답한다.
+ * - 백그라운드 flusher가 기록된 입찰을 Auction_Bids에 일괄 INSERT 하고 Auction_Products 현재가/입찰 수를 갱신한다.
+ * - 재시작 시 DB에 반영되지 않은 기록을 다시 반영한 뒤 입찰을 받는다.
+ * - fsync 에 실패한 기록은 실패로 응답하고 seq 를 음수로 바꿔(tombstone) 재시작 복구에서 건너뛴다.
+ * - DB 반영에 실패한 기록은 버리지 않고 재시도 목록에 남기며, 체크포인트는 그 앞까지만 올린다.
+ * - 건별로 거부(무결성 위반: 탈퇴/삭제된 사용자 등)된 기록은 max-retries 번까지만 다시 시도하고, 그래도 안 되면
+ *   dead-letter.log 에 남긴 뒤 미반영 수에서 빼서 경매 마감과 세그먼트 정리를 막지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBidJournal {
+
+    // seq(8) + auctionId(8) + userId(8) + bidPrice(4) + bidTime(8) + crc(4)
+    private static final int RECORD_SIZE = 40;
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auction.bid.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    @Value("${auction.bid.journal.dir:./bid-journal}")
+    private String journalDir;
+
+    // 세그먼트 파일 하나의 크기 (기본 64MB = 약 167만 건)
+    @Value("${auction.bid.journal.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    // 그룹 커밋으로 묶을 시간
+    @Value("${auction.bid.journal.group-commit-ms:2}")
+    private long groupCommitMillis;
+
+    @Value("${auction.bid.journal.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    @Value("${auction.bid.journal.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    // 건별로 거부된 기록을 다시 시도하는 횟수 (넘으면 dead-letter)
+    @Value("${auction.bid.journal.max-retries:5}")
+    private int maxRetries;
+
+    private Path directory;
+
+    // appendLock 으로 보호
+    private final Object appendLock = new Object();
+    private Segment current;
+    private long nextSeq;
+    private List<PendingAck> pendingAcks = new ArrayList<>();
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+
+    // fsync 완료(내구성 확보) 후 DB 반영을 기다리는 기록
+    private final ConcurrentLinkedQueue<JournalEntry> durable = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Long, AtomicInteger> unflushedByAuction = new ConcurrentHashMap<>();
+    private final List<JournalEntry> inFlight = new ArrayList<>(); // flusher 스레드 전용
+    // 건별 반영에도 실패해 다시 시도할 기록 (seq 순, flushDurable 동기화로 보호)
+    private final List<JournalEntry> retrying = new ArrayList<>();
+    // 재시도 중인 기록의 거부 횟수 (seq 기준, flushDurable 동기화로 보호)
+    private final Map<Long, Integer> rejections = new HashMap<>();
+    private long lastFlushedSeq;
+
+    private volatile boolean running;
+    private Thread committer;
+    private ScheduledExecutorService flusher;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (clusterEnabled) {
+            throw new IllegalStateException(
+                    "auction.bid.journal.enabled=true 는 단일 노드(auction.cluster.enabled=false)에서만 사용할 수 있습니다.");
+        }
+        directory = Paths.get(journalDir);
+        Files.createDirectories(directory);
+
+        long checkpoint = readCheckpoint();
+        long maxSeq = checkpoint;
+        List<JournalEntry> unflushed = new ArrayList<>();
+        List<Path> segments = listSegments();
+        for (Path file : segments) {
+            for (JournalEntry entry : readSegment(file)) {
+                maxSeq = Math.max(maxSeq, entry.seq());
+                if (entry.seq() > checkpoint) {
+                    unflushed.add(entry);
+                }
+            }
+        }
+
+        // 재시작 복구: 체크포인트 이후 기록 중 아직 DB에 없는 것만 반영
+        List<JournalEntry> failed = new ArrayList<>();
+        if (!unflushed.isEmpty()) {
+            List<JournalEntry> missing = unflushed.stream().filter(e -> !existsInDb(e)).toList();
+            log.info("입찰 저널 복구: 미반영 후보 {}건, 실제 반영 {}건", unflushed.size(), missing.size());
+            for (int from = 0; from < missing.size(); from += flushBatchSize) {
+                failed.addAll(writeBatch(missing.subList(from, Math.min(from + flushBatchSize, missing.size()))));
+            }
+        }
+
+        nextSeq = maxSeq + 1;
+        current = openSegment(nextSeq);
+
+        // 반영하지 못한 기록은 새 세그먼트로 옮겨 적은 뒤 이전 세그먼트를 지운다 (flusher 가 계속 재시도)
+        for (JournalEntry entry : failed) {
+            JournalEntry moved = new JournalEntry(nextSeq++, entry.auctionId(), entry.userId(), entry.bidPrice(), entry.bidTime());
+            current.write(moved);
+            retrying.add(moved);
+            rejections.put(moved.seq(), 1);
+            unflushedByAuction.computeIfAbsent(moved.auctionId(), id -> new AtomicInteger()).incrementAndGet();
+        }
+        if (!failed.isEmpty()) {
+            current.buffer.force();
+            log.warn("입찰 저널 복구 중 반영 실패 {}건, 재시도 대기", failed.size());
+        }
+        writeCheckpoint(maxSeq);
+        lastFlushedSeq = maxSeq;
+        for (Path file : segments) {
+            Files.deleteIfExists(file);
+        }
+
+        running = true;
+        committer = new Thread(this::commitLoop, "bid-journal-committer");
+        committer.setDaemon(true);
+        committer.start();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bid-journal-flusher-"));
+        flusher.scheduleWithFixedDelay(this::flushDurable, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        synchronized (appendLock) {
+            appendLock.notifyAll();
+        }
+        committer.join(1000);
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        // 남은 기록은 다음 기동 시 복구 과정에서 반영된다
+        flushDurable();
+    }
+
+    // 입찰 기록 추가. 반환된 future는 fsync 이후 완료된다.
+    public CompletableFuture<Long> append(Long auctionId, Long userId, Integer bidPrice, LocalDateTime bidTime) {
+        CompletableFuture<Long> ack = new CompletableFuture<>();
+        synchronized (appendLock) {
+            if (!running) {
+                throw new IllegalStateException("입찰 저널이 동작 중이 아닙니다.");
+            }
+            if (current.position + RECORD_SIZE > segmentBytes) {
+                rotate();
+            }
+            JournalEntry entry = new JournalEntry(nextSeq++, auctionId, userId, bidPrice, bidTime);
+            int position = current.position;
+            current.write(entry);
+            unflushedByAuction.computeIfAbsent(auctionId, id -> new AtomicInteger()).incrementAndGet();
+            pendingAcks.add(new PendingAck(entry, ack, current, position));
+            appendLock.notifyAll();
+        }
+        return ack;
+    }
+
+    // 해당 경매에 DB 미반영 기록이 남아 있는지 (입찰 처리기 lane 정리 시 확인)
+    public boolean hasUnflushed(Long auctionId) {
+        AtomicInteger count = unflushedByAuction.get(auctionId);
+        return count != null && count.get() > 0;
+    }
+
+    private void rotate() {
+        try {
+            current.buffer.force();
+            current.channel.close();
+            closedSegments.add(current);
+            current = openSegment(nextSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 그룹 커밋: 모인 기록을 한 번의 fsync로 내구화하고 대기 중인 입찰에 응답
+    private void commitLoop() {
+        while (running || hasPendingAcks()) {
+            try {
+                synchronized (appendLock) {
+                    while (running && pendingAcks.isEmpty()) {
+                        appendLock.wait();
+                    }
+                }
+                if (running) {
+                    Thread.sleep(groupCommitMillis);
+                }
+
+                List<PendingAck> batch;
+                Segment segment;
+                synchronized (appendLock) {
+                    batch = pendingAcks;
+                    pendingAcks = new ArrayList<>();
+                    segment = current;
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    segment.buffer.force();
+                } catch (RuntimeException e) {
+                    log.error("입찰 저널 fsync 실패: {}건 응답 실패 처리", batch.size(), e);
+                    discard(batch);
+                    batch.forEach(p -> p.ack().completeExceptionally(e));
+                    continue;
+                }
+
+                for (PendingAck pending : batch) {
+                    durable.add(pending.entry());
+                    pending.ack().complete(pending.entry().seq());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 실패로 응답한 기록이 재시작 후 되살아나지 않도록 tombstone 처리 (다시 fsync 는 최선 노력)
+    private void discard(List<PendingAck> batch) {
+        Set<Segment> touched = new HashSet<>();
+        synchronized (appendLock) {
+            for (PendingAck pending : batch) {
+                pending.segment().tombstone(pending.position());
+                touched.add(pending.segment());
+                unflushedByAuction.computeIfPresent(pending.entry().auctionId(),
+                        (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+            }
+        }
+        for (Segment segment : touched) {
+            try {
+                segment.buffer.force();
+            } catch (RuntimeException e) {
+                log.error("입찰 저널 tombstone fsync 실패: {}", segment.path, e);
+            }
+        }
+    }
+
+    private boolean hasPendingAcks() {
+        synchronized (appendLock) {
+            return !pendingAcks.isEmpty();
+        }
+    }
+
+    // 내구화된 기록을 묶어서 DB에 반영 (DB 장애면 다음 주기에 같은 묶음을, 건별 실패는 재시도 목록에서 다시)
+    private synchronized void flushDurable() {
+        while (true) {
+            if (inFlight.isEmpty()) {
+                JournalEntry entry;
+                while (inFlight.size() < flushBatchSize && (entry = durable.poll()) != null) {
+                    inFlight.add(entry);
+                }
+            }
+            if (inFlight.isEmpty()) {
+                break;
+            }
+
+            List<JournalEntry> failed;
+            try {
+                failed = writeBatch(inFlight);
+            } catch (RuntimeException e) {
+                log.warn("입찰 저널 DB 반영 실패, 다음 주기에 재시도: {}건 - {}", inFlight.size(), e.getMessage());
+                return;
+            }
+
+            markFlushed(inFlight, failed);
+            retrying.addAll(failed);
+            failed.forEach(entry -> rejections.put(entry.seq(), 1));
+            lastFlushedSeq = inFlight.get(inFlight.size() - 1).seq();
+            inFlight.clear();
+            advanceCheckpoint();
+        }
+
+        if (!retrying.isEmpty()) {
+            List<JournalEntry> failed;
+            try {
+                failed = writeBatch(new ArrayList<>(retrying));
+            } catch (RuntimeException e) {
+                log.warn("입찰 저널 재시도 반영 실패: {}건 - {}", retrying.size(), e.getMessage());
+                return;
+            }
+            markFlushed(retrying, failed);
+            retrying.retainAll(failed);
+            rejections.keySet().retainAll(failed.stream().map(JournalEntry::seq).toList());
+            deadLetterExhausted(failed);
+            advanceCheckpoint();
+        }
+    }
+
+    // 거부 횟수가 max-retries 를 넘은 기록은 dead-letter 로 옮기고 재시도/미반영 집계에서 뺀다
+    private void deadLetterExhausted(List<JournalEntry> failed) {
+        List<JournalEntry> exhausted = new ArrayList<>();
+        for (JournalEntry entry : failed) {
+            if (rejections.merge(entry.seq(), 1, Integer::sum) > maxRetries) {
+                exhausted.add(entry);
+            }
+        }
+        if (exhausted.isEmpty()) {
+            return;
+        }
+        try {
+            writeDeadLetters(exhausted);
+        } catch (IOException e) {
+            // dead-letter 에 남기지 못했으면 기록을 잃지 않도록 계속 재시도 목록에 둔다
+            log.error("입찰 저널 dead-letter 기록 실패, 재시도 유지: {}건", exhausted.size(), e);
+            return;
+        }
+        retrying.removeAll(exhausted);
+        markFlushed(exhausted, List.of());
+        for (JournalEntry entry : exhausted) {
+            rejections.remove(entry.seq());
+            log.error("입찰 저널 기록 반영 포기, dead-letter 로 이동: seq={}, auctionId={}, userId={}, bidPrice={}",
+                    entry.seq(), entry.auctionId(), entry.userId(), entry.bidPrice());
+        }
+    }
+
+    // 한 줄에 한 건: seq,auctionId,userId,bidPrice,bidTime (운영자가 확인 후 수동 처리)
+    private void writeDeadLetters(List<JournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(entry.seq()).append(',')
+                    .append(entry.auctionId()).append(',')
+                    .append(entry.userId()).append(',')
+                    .append(entry.bidPrice()).append(',')
+                    .append(entry.bidTime()).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+    }
+
+    private void markFlushed(List<JournalEntry> entries, List<JournalEntry> failed) {
+        for (JournalEntry flushed : entries) {
+            if (!failed.contains(flushed)) {
+                unflushedByAuction.computeIfPresent(flushed.auctionId(),
+                        (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+            }
+        }
+    }
+
+    // 재시도 중인 기록이 있으면 체크포인트는 그 바로 앞까지만 (재시작 시 다시 읽히도록)
+    private void advanceCheckpoint() {
+        long safeSeq = retrying.isEmpty() ? lastFlushedSeq : Math.min(lastFlushedSeq, retrying.get(0).seq() - 1);
+        try {
+            writeCheckpoint(safeSeq);
+        } catch (IOException e) {
+            log.warn("입찰 저널 체크포인트 기록 실패: seq={}", safeSeq, e);
+        }
+        deleteFlushedSegments(safeSeq);
+    }
+
+    // 반영하지 못한 기록을 돌려준다 (묶음 전체가 DB 장애로 실패하면 예외)
+    private List<JournalEntry> writeBatch(List<JournalEntry> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertAndApply(entries));
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            // 묶음 중 잘못된 기록(예: 존재하지 않는 사용자)이 있으면 한 건씩 반영하고 실패 건은 재시도 대상으로
+            log.warn("입찰 저널 일괄 반영 실패, 건별 반영으로 전환: {}", e.getMessage());
+            List<JournalEntry> failed = new ArrayList<>();
+            for (JournalEntry entry : entries) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertAndApply(List.of(entry)));
+                } catch (DataIntegrityViolationException rejected) {
+                    log.error("입찰 저널 기록 반영 실패, 재시도 대기: seq={}, auctionId={}, userId={}, bidPrice={}",
+                            entry.seq(), entry.auctionId(), entry.userId(), entry.bidPrice());
+                    failed.add(entry);
+                }
+            }
+            return failed;
+        }
+    }
+
+    private void insertAndApply(List<JournalEntry> entries) {
+        entries.forEach(entry -> ReplicaRoutingContext.recordWrite(entry.userId()));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO auction_bids (auction_id, user_id, bid_price, bid_time) VALUES (?, ?, ?, ?)",
+                entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.auctionId());
+                    ps.setLong(2, entry.userId());
+                    ps.setInt(3, entry.bidPrice());
+                    ps.setTimestamp(4, Timestamp.valueOf(entry.bidTime()));
+                });
+
+        // 경매별 최고가와 입찰 수 합계
+        Map<Long, int[]> totals = new LinkedHashMap<>();
+        for (JournalEntry entry : entries) {
+            int[] total = totals.computeIfAbsent(entry.auctionId(), id -> new int[2]);
+            total[0] = Math.max(total[0], entry.bidPrice());
+            total[1]++;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE auction_products SET current_price = GREATEST(current_price, ?), bid_count = bid_count + ? " +
+                        "WHERE auction_id = ?",
+                new ArrayList<>(totals.entrySet()), totals.size(),
+                (ps, total) -> {
+                    ps.setInt(1, total.getValue()[0]);
+                    ps.setInt(2, total.getValue()[1]);
+                    ps.setLong(3, total.getKey());
+                });
+    }
+
+    // 한 경매 안에서 입찰가는 항상 증가하므로 (auction_id, bid_price)로 반영 여부를 판단
+    private boolean existsInDb(JournalEntry entry) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auction_bids WHERE auction_id = ? AND bid_price = ?",
+                Integer.class, entry.auctionId(), entry.bidPrice());
+        return count != null && count > 0;
+    }
+
+    // 체크포인트 이전 기록만 담긴 세그먼트 파일 삭제
+    private void deleteFlushedSegments(long flushedSeq) {
+        synchronized (appendLock) {
+            while (!closedSegments.isEmpty() && closedSegments.peekFirst().lastSeq <= flushedSeq) {
+                Segment segment = closedSegments.pollFirst();
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    log.warn("입찰 저널 세그먼트 삭제 실패: {}", segment.path, e);
+                }
+            }
+        }
+    }
+
+    private Segment openSegment(long firstSeq) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        return new Segment(path, channel, buffer);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private List<JournalEntry> readSegment(Path file) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (int pos = 0; pos + RECORD_SIZE <= buffer.limit(); pos += RECORD_SIZE) {
+                long seq = buffer.getLong(pos);
+                if (seq == 0) {
+                    break;
+                }
+                if (crc(buffer, pos) != buffer.getInt(pos + RECORD_SIZE - 4)) {
+                    // 마지막 fsync 이전에 잘린 기록
+                    log.warn("입찰 저널 손상 기록 이후 무시: file={}, seq={}", file.getFileName(), seq);
+                    break;
+                }
+                if (seq < 0) {
+                    // fsync 실패로 응답하지 않은 기록
+                    continue;
+                }
+                entries.add(new JournalEntry(
+                        seq,
+                        buffer.getLong(pos + 8),
+                        buffer.getLong(pos + 16),
+                        buffer.getInt(pos + 24),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong(pos + 28)), ZoneId.systemDefault())));
+            }
+        }
+        return entries;
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        return bytes.length >= 8 ? ByteBuffer.wrap(bytes).getLong() : 0L;
+    }
+
+    private void writeCheckpoint(long seq) throws IOException {
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, seq));
+            channel.force(true);
+        }
+        Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int crc(ByteBuffer buffer, int pos) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(pos, RECORD_SIZE - 4));
+        return (int) crc.getValue();
+    }
+
+    private record JournalEntry(long seq, Long auctionId, Long userId, Integer bidPrice, LocalDateTime bidTime) {
+    }
+
+    private record PendingAck(JournalEntry entry, CompletableFuture<Long> ack, Segment segment, int position) {
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private long lastSeq;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void write(JournalEntry entry) {
+            int pos = position;
+            buffer.putLong(pos + 8, entry.auctionId());
+            buffer.putLong(pos + 16, entry.userId());
+            buffer.putInt(pos + 24, entry.bidPrice());
+            buffer.putLong(pos + 28, entry.bidTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            buffer.putLong(pos, entry.seq());
+            buffer.putInt(pos + RECORD_SIZE - 4, crc(buffer, pos));
+            position += RECORD_SIZE;
+            lastSeq = entry.seq();
+        }
+
+        private void tombstone(int pos) {
+            buffer.putLong(pos, -buffer.getLong(pos));
+            buffer.putInt(pos + RECORD_SIZE - 4, crc(buffer, pos));
+        }
+    }
+}
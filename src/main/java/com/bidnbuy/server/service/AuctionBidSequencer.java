@@ -0,0 +1,432 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.config.ReplicaRoutingContext;
+import com.bidnbuy.server.dto.AuctionBidDto;
+import com.bidnbuy.server.entity.AuctionBidsEntity;
+import com.bidnbuy.server.entity.AuctionProductsEntity;
+import com.bidnbuy.server.enums.ErrorCode;
+import com.bidnbuy.server.enums.SellingStatus;
+import com.bidnbuy.server.exception.CustomException;
+import com.bidnbuy.server.repository.AuctionBidRepository;
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import com.bidnbuy.server.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 경매별 단일 입찰 처리기
+ * - 경매 ID마다 큐 하나와 처리 워커 하나(동시에 최대 1개 실행)를 둔다.
+ * - 현재가/최소 입찰 단위/종료 시간/판매 상태는 메모리 사본으로 검증하고, 통과한 입찰만 DB에 저장한다.
+ * - 거절된 입찰은 DB를 건드리지 않으며, 커넥션은 저장하는 순간에만 워커 수만큼 사용된다.
+ * - DB 반영은 상태/종료 시간/최소 단위까지 확인하는 조건부 UPDATE 라서, 메모리 사본이 마감 처리보다 늦어도 종료된 경매에는 반영되지 않는다.
+ * - 대기 시간이 지나면 아직 처리 전인 입찰만 포기시키고, 이미 저장을 시작한 입찰은 결과까지 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBidSequencer {
+
+    // 워커 한 번 실행에서 처리할 최대 입찰 수 (한 경매가 워커를 독점하지 않도록)
+    private static final int DRAIN_LIMIT = 64;
+
+    private final AuctionProductsRepository auctionProductsRepository;
+    private final AuctionBidRepository auctionBidRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuctionBidJournal auctionBidJournal;
+
+    @Value("${auction.bid.sequencer.workers:8}")
+    private int workerCount;
+
+    @Value("${auction.bid.sequencer.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    @Value("${auction.bid.sequencer.idle-evict-ms:300000}")
+    private long idleEvictMillis;
+
+    private final ConcurrentHashMap<Long, AuctionLane> lanes = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+
+    @PostConstruct
+    void init() {
+        workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("bid-sequencer-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    // 입찰 요청을 해당 경매의 큐에 넣고 처리 결과를 기다린다.
+    public AcceptedBid submit(Long userId, Long auctionId, Integer bidPrice) {
+        BidCommand command = new BidCommand(userId, bidPrice, new CompletableFuture<>(), new AtomicInteger(BidCommand.WAITING));
+
+        AuctionLane lane = lanes.computeIfAbsent(auctionId, AuctionLane::new);
+        while (!lane.offer(command)) {
+            // 유휴 정리로 막 은퇴한 lane이면 새 lane으로 다시 시도
+            lanes.remove(auctionId, lane);
+            lane = lanes.computeIfAbsent(auctionId, AuctionLane::new);
+        }
+
+        try {
+            return command.future().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            if (command.abandon()) {
+                throw new CustomException(ErrorCode.BID_TIMEOUT);
+            }
+            // 워커가 이미 저장을 시작함 -> 타임아웃으로 응답하지 않고 워커의 실제 결과(성공 또는 그 예외)를 기다려 돌려준다
+            return awaitClaimed(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (command.abandon()) {
+                throw new CustomException(ErrorCode.BID_TIMEOUT);
+            }
+            return awaitClaimed(command);
+        }
+    }
+
+    private AcceptedBid awaitClaimed(BidCommand command) {
+        try {
+            return command.future().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new CustomException(ErrorCode.SERVER_ERROR);
+    }
+
+    // 경매 상태가 입찰 경로 밖에서 바뀌었을 때(삭제, 강제 종료 등) 메모리 사본을 다시 읽도록 표시
+    public void invalidate(Long auctionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markStale(auctionId);
+                }
+            });
+            return;
+        }
+        markStale(auctionId);
+    }
+
+    private void markStale(Long auctionId) {
+        AuctionLane lane = lanes.get(auctionId);
+        if (lane != null) {
+            lane.stale = true;
+        }
+    }
+
+    // 오래 입찰이 없거나 이미 끝난 경매의 lane 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleLanes() {
+        long now = System.currentTimeMillis();
+        lanes.forEach((auctionId, lane) -> {
+            // 저널에 DB 미반영 입찰이 남아 있으면 DB 값이 뒤처져 있으므로 유지
+            if (now - lane.lastActiveAt > idleEvictMillis && !auctionBidJournal.hasUnflushed(auctionId)
+                    && lane.retireIfIdle()) {
+                lanes.remove(auctionId, lane);
+            }
+        });
+    }
+
+    // 조회용 빠른 경로: 이 노드의 입찰 처리기가 들고 있는 확정된 최고가/입찰 수 (lane 이 없거나 다시 읽어야 하면 empty)
+    public Optional<LiveBidState> liveState(Long auctionId) {
+        AuctionLane lane = lanes.get(auctionId);
+        if (lane == null || lane.stale) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lane.published);
+    }
+
+    public record AcceptedBid(AuctionBidDto bid, int bidCount) {
+    }
+
+    public record LiveBidState(int currentPrice, int bidCount) {
+    }
+
+    // state: 요청 측 포기(ABANDONED)와 워커의 저장 시작(CLAIMED) 중 먼저 바꾼 쪽이 이긴다
+    private record BidCommand(Long userId, Integer bidPrice, CompletableFuture<AcceptedBid> future, AtomicInteger state) {
+        static final int WAITING = 0;
+        static final int CLAIMED = 1;
+        static final int ABANDONED = 2;
+
+        boolean claim() {
+            return state.compareAndSet(WAITING, CLAIMED);
+        }
+
+        boolean abandon() {
+            return state.compareAndSet(WAITING, ABANDONED);
+        }
+    }
+
+    private final class AuctionLane implements Runnable {
+        private final Long auctionId;
+        private final Queue<BidCommand> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile long lastActiveAt = System.currentTimeMillis();
+        private volatile boolean stale;
+        private boolean retired;
+
+        // 메모리 사본 (scheduled 플래그로 한 번에 한 워커만 접근)
+        private boolean loaded;
+        private boolean missing;
+        private Long sellerId;
+        private Integer currentPrice;
+        private Integer minBidPrice;
+        private int bidCount;
+        private LocalDateTime endTime;
+        private SellingStatus sellingStatus;
+        // 다른 스레드(조회)에 공개하는 값: DB 커밋 / 저널 fsync 가 끝난 입찰만 반영
+        private volatile LiveBidState published;
+        // 저널 모드: fsync 를 기다리는 기록 수와 실패 여부 (실패하면 메모리 사본을 published 로 되돌린다)
+        private final AtomicInteger journalPending = new AtomicInteger();
+        private volatile boolean journalFailed;
+
+        private AuctionLane(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        synchronized boolean offer(BidCommand command) {
+            if (retired) {
+                return false;
+            }
+            queue.add(command);
+            schedule();
+            return true;
+        }
+
+        synchronized boolean retireIfIdle() {
+            if (!queue.isEmpty() || scheduled.get()) {
+                return false;
+            }
+            retired = true;
+            return true;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                BidCommand command;
+                int processed = 0;
+                while (processed < DRAIN_LIMIT && (command = queue.poll()) != null) {
+                    process(command);
+                    processed++;
+                }
+            } finally {
+                lastActiveAt = System.currentTimeMillis();
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void process(BidCommand command) {
+            // 요청 측에서 이미 타임아웃으로 포기한 입찰은 처리하지 않음
+            if (command.state().get() == BidCommand.ABANDONED) {
+                return;
+            }
+            try {
+                if (journalFailed) {
+                    rollbackToDurable();
+                }
+                if (!loaded || stale) {
+                    load();
+                }
+                if (missing) {
+                    throw new CustomException(ErrorCode.AUCTION_NOT_FOUND);
+                }
+
+                AuctionBidService.validateBid(command.userId(), sellerId, sellingStatus, endTime,
+                        currentPrice, minBidPrice, command.bidPrice());
+
+                // 여기서부터는 요청 측이 포기할 수 없다 (저장된 입찰은 반드시 응답까지 전달)
+                if (!command.claim()) {
+                    return;
+                }
+                if (auctionBidJournal.isEnabled()) {
+                    appendToJournal(command);
+                    return;
+                }
+
+                AcceptedBid accepted = persist(command);
+                if (!command.future().complete(accepted)) {
+                    log.warn("입찰 저장 후 응답 대기 시간 초과: auctionId={}, userId={}, bidPrice={}",
+                            auctionId, command.userId(), command.bidPrice());
+                }
+            } catch (RuntimeException e) {
+                command.future().completeExceptionally(e);
+            }
+        }
+
+        private void load() {
+            stale = false;
+            loaded = true;
+            AuctionProductsEntity auction = auctionProductsRepository.findById(auctionId).orElse(null);
+            if (auction == null || auction.getDeletedAt() != null) {
+                missing = true;
+                published = null;
+                return;
+            }
+            missing = false;
+            sellerId = auction.getUser().getUserId();
+            currentPrice = auction.getCurrentPrice();
+            minBidPrice = auction.getMinBidPrice();
+            bidCount = auction.getBidCount() != null ? auction.getBidCount() : 0;
+            endTime = auction.getEndTime();
+            sellingStatus = auction.getSellingStatus();
+            published = new LiveBidState(currentPrice, bidCount);
+        }
+
+        // 실패한 저널 기록이 올려둔 현재가/입찰 수를 되돌린다
+        // 앞서 기록한 입찰의 fsync 결과가 모두 나온 뒤 published (fsync 된 최고가)로 맞춘다
+        private void rollbackToDurable() {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (journalPending.get() > 0 && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (journalPending.get() > 0) {
+                // 아직 결과가 안 나온 기록이 있으면 더 높은 사본으로 계속 검증 (거절만 늘 뿐 잘못 받지는 않음)
+                return;
+            }
+            journalFailed = false;
+            LiveBidState durableState = published;
+            if (durableState == null) {
+                loaded = false;
+                return;
+            }
+            currentPrice = durableState.currentPrice();
+            bidCount = durableState.bidCount();
+        }
+
+        // 응답 완료 순서가 뒤섞여도 더 높은 가격만 공개
+        private synchronized void publish(int price, int count) {
+            LiveBidState current = published;
+            if (current == null || price > current.currentPrice()) {
+                published = new LiveBidState(price, count);
+            }
+        }
+
+        private AcceptedBid persist(BidCommand command) {
+            AuctionBidsEntity saved;
+            try {
+                saved = transactionTemplate.execute(status -> {
+                    // 다른 경로에서 가격이 먼저 올라갔거나, 그 사이 마감/삭제됐다면 0건 갱신
+                    int updated = auctionProductsRepository.compareAndSetBid(
+                            auctionId, command.userId(), command.bidPrice(), LocalDateTime.now());
+                    if (updated == 0) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    // 요청 스레드 밖에서 커밋되므로 입찰자를 직접 기록 (이후 그 사용자의 읽기는 primary)
+                    ReplicaRoutingContext.recordWrite(command.userId());
+                    AuctionBidsEntity newBid = AuctionBidsEntity.builder()
+                            .user(userRepository.getReferenceById(command.userId()))
+                            .auction(auctionProductsRepository.getReferenceById(auctionId))
+                            .bidPrice(command.bidPrice())
+                            .build();
+                    return auctionBidRepository.save(newBid);
+                });
+            } catch (DataIntegrityViolationException e) {
+                throw new CustomException(ErrorCode.INVALID_USER_ID);
+            }
+
+            if (saved == null) {
+                // 메모리 사본이 DB보다 뒤처져 있음 -> 다시 읽고 실패 사유를 만든다 (마감됐으면 마감 사유로)
+                load();
+                if (missing) {
+                    throw new CustomException(ErrorCode.AUCTION_NOT_FOUND);
+                }
+                AuctionBidService.validateBid(command.userId(), sellerId, sellingStatus, endTime,
+                        currentPrice, minBidPrice, command.bidPrice());
+                throw new RuntimeException("CURRENT_HIGHEST_BID_EXISTS, 이미 더 높은 입찰이 존재합니다.");
+            }
+
+            // 커밋 이후에만 메모리 사본 갱신
+            currentPrice = command.bidPrice();
+            bidCount++;
+            publish(currentPrice, bidCount);
+
+            AuctionBidDto bid = AuctionBidDto.builder()
+                    .bidId(saved.getBidId())
+                    .userId(command.userId())
+                    .auctionId(auctionId)
+                    .bidPrice(command.bidPrice())
+                    .bidTime(saved.getBidTime())
+                    .build();
+            return new AcceptedBid(bid, bidCount);
+        }
+
+        // 저널 모드: 기록 후 바로 다음 입찰을 처리하고, 응답은 fsync 이후에 보낸다 (DB 반영은 저널 flusher 담당)
+        // 다음 입찰 검증을 위해 현재가는 기록 시점에 미리 올리고, fsync 실패 시 rollbackToDurable 로 되돌린다
+        private void appendToJournal(BidCommand command) {
+            LocalDateTime bidTime = LocalDateTime.now();
+            journalPending.incrementAndGet();
+            CompletableFuture<Long> durable;
+            try {
+                durable = auctionBidJournal.append(auctionId, command.userId(), command.bidPrice(), bidTime);
+            } catch (RuntimeException e) {
+                journalPending.decrementAndGet();
+                throw e;
+            }
+
+            currentPrice = command.bidPrice();
+            bidCount++;
+
+            AuctionBidDto bid = AuctionBidDto.builder()
+                    .userId(command.userId())
+                    .auctionId(auctionId)
+                    .bidPrice(command.bidPrice())
+                    .bidTime(bidTime)
+                    .build();
+            AcceptedBid accepted = new AcceptedBid(bid, bidCount);
+
+            durable.whenComplete((seq, error) -> {
+                if (error != null) {
+                    journalFailed = true;
+                    journalPending.decrementAndGet();
+                    command.future().completeExceptionally(new CustomException(ErrorCode.SERVER_ERROR));
+                    return;
+                }
+                publish(accepted.bid().getBidPrice(), accepted.bidCount());
+                journalPending.decrementAndGet();
+                if (!command.future().complete(accepted)) {
+                    log.warn("입찰 기록 후 응답 대기 시간 초과: auctionId={}, userId={}, bidPrice={}",
+                            auctionId, command.userId(), command.bidPrice());
+                }
+            });
+        }
+    }
+}
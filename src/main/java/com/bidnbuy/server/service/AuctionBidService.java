@@ -1,25 +1,34 @@
 package com.bidnbuy.server.service;
 
 import com.bidnbuy.server.dto.AuctionBidDto;
-import com.bidnbuy.server.dto.BidUpdateDto;
 import com.bidnbuy.server.entity.AuctionBidsEntity;
 import com.bidnbuy.server.entity.AuctionProductsEntity;
 import com.bidnbuy.server.entity.UserEntity;
 import com.bidnbuy.server.enums.ErrorCode;
 import com.bidnbuy.server.enums.SellingStatus;
+import com.bidnbuy.server.event.BidPlacedEvent;
 import com.bidnbuy.server.exception.CustomException;
 import com.bidnbuy.server.repository.AuctionBidRepository;
 import com.bidnbuy.server.repository.AuctionProductsRepository;
 import com.bidnbuy.server.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,10 +38,34 @@ public class AuctionBidService {
     private final UserRepository userRepository;
     private final AuctionProductsRepository auctionProductsRepository;
     private final AuctionBidRepository auctionBidRepository;
-    private final SimpMessagingTemplate messagingTemplate; // 웹소켓 메세지 전송을 위해 필요
+    private final ApplicationEventPublisher eventPublisher; // 입찰 후속 작업(웹소켓 알림)은 커밋 이후 처리
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 입찰 처리 방식 (sequencer: 경매별 단일 처리기, cas: 조건부 UPDATE, pessimistic: DB 행 잠금)
+    @Value("${auction.bid.mode:sequencer}")
+    private String bidMode;
 
-    @Transactional
     public AuctionBidDto bid(Long userId, Long auctionId, Integer bidPrice) {
+        if ("pessimistic".equalsIgnoreCase(bidMode)) {
+            return timeTransaction("pessimistic",
+                    () -> transactionTemplate.execute(status -> bidWithLock(userId, auctionId, bidPrice)));
+        }
+        if ("cas".equalsIgnoreCase(bidMode)) {
+            return bidWithCompareAndSet(userId, auctionId, bidPrice);
+        }
+
+        // 경매별 큐에서 메모리 검증 후 통과한 입찰만 저장
+        AuctionBidSequencer.AcceptedBid accepted = auctionBidSequencer.submit(userId, auctionId, bidPrice);
+
+        eventPublisher.publishEvent(new BidPlacedEvent(auctionId, userId, bidPrice, accepted.bidCount()));
+
+        return accepted.bid();
+    }
+
+    // 기존 방식: 경매 행에 PESSIMISTIC_WRITE 잠금을 걸고 검증/저장
+    private AuctionBidDto bidWithLock(Long userId, Long auctionId, Integer bidPrice) {
 
         // 1. 사용자 및 경매 물품 유효성 검증(커스텀 예외 적용)
         UserEntity user = userRepository.findById(userId)
@@ -41,36 +74,10 @@ public class AuctionBidService {
         // 2. 경매 상태, 입찰금액 유효성 검증(커스텀 예외 적용)
         AuctionProductsEntity auctionProduct = auctionProductsRepository.findByIdWithLock(auctionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.AUCTION_NOT_FOUND));
+        recordLockHoldTime(System.nanoTime());
 
-        // 자신이 판매한 경매물품 입찰 금지(커스텀 예외 적용)
-        Long sellerId = auctionProduct.getUser().getUserId();
-        if (userId == sellerId) {
-            throw new CustomException(ErrorCode.SELF_BIDDING_FORBIDDEN);
-        }
-
-        // 경매가 진행 중인지 확인
-        if (auctionProduct.getSellingStatus() != SellingStatus.PROGRESS) {
-            throw new RuntimeException("AUCTION_NOT_IN_PROGRESS, 현재 입찰이 불가능합니다. 경매가 진행 중이 아닙니다.");
-            // AUCTION_NOT_IN_PROGRESS, 현재 입찰이 불가능합니다. 경매가 진행 중이 아닙니다.
-        }
-
-        // 경매 끝났을때 입찰 막기
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isAfter(auctionProduct.getEndTime())) {
-            throw new RuntimeException("AUCTION_ENDED, 이미 경매가 종료된 물품입니다.");
-            //AUCTION_ENDED, 이미 경매가 종료된 물품입니다.
-        }
-
-        // 사용자의 최소 입찰 금애이 현재 입찰 금액 비교
-        Integer minBid = auctionProduct.getCurrentPrice() + auctionProduct.getMinBidPrice();
-        if (bidPrice < minBid) {
-            throw new RuntimeException("입찰 금액이 최소 입찰 단위(" + auctionProduct.getMinBidPrice() + "원)를 충족하지 못합니다. 최소 입찰 금액은 " + minBid + "원 이상입니다.");
-        }
-
-        // 동시성 안전 최고가 체크
-        if (bidPrice <= auctionProduct.getCurrentPrice()) {
-            throw new RuntimeException("CURRENT_HIGHEST_BID_EXISTS, 이미 더 높은 입찰이 존재합니다.");
-        }
+        validateBid(userId, auctionProduct.getUser().getUserId(), auctionProduct.getSellingStatus(),
+                auctionProduct.getEndTime(), auctionProduct.getCurrentPrice(), auctionProduct.getMinBidPrice(), bidPrice);
 
         // 3 DB에 저장
         AuctionBidsEntity newBid = AuctionBidsEntity.builder()
@@ -87,15 +94,39 @@ public class AuctionBidService {
 
         auctionProductsRepository.save(auctionProduct);
 
-        // 웹소켓을 이용한 알림전송 디티오
-        BidUpdateDto updateDto = BidUpdateDto.builder()
+        // 웹소켓 알림은 커밋 이후 이벤트 리스너에서 전송 (잠금 구간 밖)
+        eventPublisher.publishEvent(new BidPlacedEvent(auctionId, userId, bidPrice, auctionProduct.getBidCount()));
+
+        return AuctionBidDto.builder()
+                .bidId(newBid.getBidId())
+                .userId(userId)
                 .auctionId(auctionId)
-                .currentPrice(auctionProduct.getCurrentPrice())
-                .bidCount(auctionProduct.getBidCount())
-                .lastBidderId(userId)
+                .bidPrice(bidPrice)
+                .bidTime(newBid.getBidTime())
                 .build();
+    }
+
+    // 잠금 없는 방식: 조건부 UPDATE 한 번으로 입찰을 반영하고, 성공했을 때만 입찰 기록 저장
+    private AuctionBidDto bidWithCompareAndSet(Long userId, Long auctionId, Integer bidPrice) {
+        AuctionBidsEntity newBid = timeTransaction("cas", () -> transactionTemplate.execute(status -> {
+            int updated = auctionProductsRepository.compareAndSetBid(auctionId, userId, bidPrice, LocalDateTime.now());
+            if (updated != 1) {
+                return null;
+            }
+            AuctionBidsEntity bid = AuctionBidsEntity.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .auction(auctionProductsRepository.getReferenceById(auctionId))
+                    .bidPrice(bidPrice)
+                    .build();
+            return auctionBidRepository.save(bid);
+        }));
+
+        if (newBid == null) {
+            throw rejectReason(userId, auctionId, bidPrice);
+        }
 
-        messagingTemplate.convertAndSend("/topic/auctions/" + auctionId, updateDto);
+        eventPublisher.publishEvent(
+                new BidPlacedEvent(auctionId, userId, bidPrice, auctionProductsRepository.findBidCountById(auctionId)));
 
         return AuctionBidDto.builder()
                 .bidId(newBid.getBidId())
@@ -106,6 +137,78 @@ public class AuctionBidService {
                 .build();
     }
 
+    // 입찰 트랜잭션 소요 시간 (auction.bid.transaction, mode 태그)
+    private <T> T timeTransaction(String mode, Supplier<T> transaction) {
+        return Timer.builder("auction.bid.transaction")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(transaction);
+    }
+
+    // 경매 행 잠금 획득부터 커밋/롤백까지의 시간 (auction.bid.lock.hold)
+    private void recordLockHoldTime(long lockedAt) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                meterRegistry.timer("auction.bid.lock.hold")
+                        .record(System.nanoTime() - lockedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    // 조건부 UPDATE가 0건일 때 잠금 없이 현재 상태를 읽어 실패 사유를 만든다
+    private RuntimeException rejectReason(Long userId, Long auctionId, Integer bidPrice) {
+        AuctionProductsEntity auctionProduct = auctionProductsRepository.findById(auctionId)
+                .filter(p -> p.getDeletedAt() == null)
+                .orElse(null);
+        if (auctionProduct == null) {
+            return new CustomException(ErrorCode.AUCTION_NOT_FOUND);
+        }
+        try {
+            validateBid(userId, auctionProduct.getUser().getUserId(), auctionProduct.getSellingStatus(),
+                    auctionProduct.getEndTime(), auctionProduct.getCurrentPrice(), auctionProduct.getMinBidPrice(), bidPrice);
+        } catch (RuntimeException e) {
+            return e;
+        }
+        // 읽는 사이에 다른 입찰이 먼저 반영된 경우
+        return new CustomException(ErrorCode.LOWER_THAN_CURRENT_PRICE);
+    }
+
+    // 입찰 가능 여부 검증 (잠금 경로와 입찰 처리기가 같은 규칙을 사용)
+    static void validateBid(Long userId, Long sellerId, SellingStatus sellingStatus, LocalDateTime endTime,
+                            Integer currentPrice, Integer minBidPrice, Integer bidPrice) {
+
+        // 자신이 판매한 경매물품 입찰 금지(커스텀 예외 적용)
+        if (Objects.equals(userId, sellerId)) {
+            throw new CustomException(ErrorCode.SELF_BIDDING_FORBIDDEN);
+        }
+
+        // 경매가 진행 중인지 확인
+        if (sellingStatus != SellingStatus.PROGRESS) {
+            throw new RuntimeException("AUCTION_NOT_IN_PROGRESS, 현재 입찰이 불가능합니다. 경매가 진행 중이 아닙니다.");
+            // AUCTION_NOT_IN_PROGRESS, 현재 입찰이 불가능합니다. 경매가 진행 중이 아닙니다.
+        }
+
+        // 경매 끝났을때 입찰 막기
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isAfter(endTime)) {
+            throw new RuntimeException("AUCTION_ENDED, 이미 경매가 종료된 물품입니다.");
+            //AUCTION_ENDED, 이미 경매가 종료된 물품입니다.
+        }
+
+        // 사용자의 최소 입찰 금애이 현재 입찰 금액 비교
+        int minBidUnit = minBidPrice != null ? minBidPrice : 0;
+        Integer minBid = currentPrice + minBidUnit;
+        if (bidPrice < minBid) {
+            throw new RuntimeException("입찰 금액이 최소 입찰 단위(" + minBidUnit + "원)를 충족하지 못합니다. 최소 입찰 금액은 " + minBid + "원 이상입니다.");
+        }
+
+        // 동시성 안전 최고가 체크
+        if (bidPrice <= currentPrice) {
+            throw new RuntimeException("CURRENT_HIGHEST_BID_EXISTS, 이미 더 높은 입찰이 존재합니다.");
+        }
+    }
+
     @Transactional(readOnly = true) // ⭐️ 조회 전용 트랜잭션으로 설정
     public List<AuctionBidDto> getBidsByAuction(Long auctionId) {
 
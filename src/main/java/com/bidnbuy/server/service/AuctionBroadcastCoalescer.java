@@ -0,0 +1,130 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.dto.BidUpdateDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 경매 입찰 브로드캐스트 합치기
+ * - 토픽(/topic/auctions/{id})별로 최신 BidUpdateDto 하나만 보관한다.
+ * - 토픽이 한가하면 즉시 전송하고, 바쁘면 최대 전송 빈도(auction.broadcast.max-per-second)에 맞춰 최신 값만 전송한다.
+ * - 마지막 가격은 항상 전송되므로 클라이언트가 최종가를 놓치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBroadcastCoalescer {
+
+    private static final String TOPIC_PREFIX = "/topic/auctions/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${auction.broadcast.max-per-second:10}")
+    private int maxPerSecond;
+
+    private final ConcurrentHashMap<Long, TopicState> topics = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private long intervalNanos;
+
+    @PostConstruct
+    void init() {
+        intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxPerSecond);
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("bid-broadcast-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    public void publish(BidUpdateDto update) {
+        TopicState topic = topics.computeIfAbsent(update.getAuctionId(), id -> new TopicState());
+        long now = System.nanoTime();
+        boolean sendNow = false;
+
+        synchronized (topic) {
+            topic.lastPublishedAt = now;
+            // 요청 순서가 뒤바뀌어 도착한 이전 가격은 버림
+            if (isStale(update, topic.lastSent) || isStale(update, topic.pending)) {
+                return;
+            }
+            if (!topic.flushScheduled && now - topic.lastSentAt >= intervalNanos) {
+                topic.lastSent = update;
+                topic.lastSentAt = now;
+                sendNow = true;
+            } else {
+                topic.pending = update;
+                if (!topic.flushScheduled) {
+                    topic.flushScheduled = true;
+                    long delay = topic.lastSentAt + intervalNanos - now;
+                    scheduler.schedule(() -> flush(update.getAuctionId(), topic), delay, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        if (sendNow) {
+            send(update);
+        }
+    }
+
+    private void flush(Long auctionId, TopicState topic) {
+        BidUpdateDto update;
+        synchronized (topic) {
+            update = topic.pending;
+            topic.pending = null;
+            topic.flushScheduled = false;
+            if (update == null) {
+                return;
+            }
+            topic.lastSent = update;
+            topic.lastSentAt = System.nanoTime();
+        }
+        send(update);
+    }
+
+    private void send(BidUpdateDto update) {
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + update.getAuctionId(), update);
+        } catch (RuntimeException e) {
+            log.warn("입찰 브로드캐스트 실패: auctionId={}", update.getAuctionId(), e);
+        }
+    }
+
+    private static boolean isStale(BidUpdateDto update, BidUpdateDto known) {
+        return known != null && known.getCurrentPrice() != null && update.getCurrentPrice() != null
+                && update.getCurrentPrice() <= known.getCurrentPrice();
+    }
+
+    // 1분 이상 입찰이 없는 토픽 상태 정리
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleTopics() {
+        long threshold = System.nanoTime() - TimeUnit.MINUTES.toNanos(1);
+        topics.forEach((auctionId, topic) -> {
+            synchronized (topic) {
+                if (!topic.flushScheduled && topic.lastPublishedAt < threshold) {
+                    topics.remove(auctionId, topic);
+                }
+            }
+        });
+    }
+
+    private static final class TopicState {
+        private BidUpdateDto lastSent;
+        private BidUpdateDto pending;
+        private long lastSentAt = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+        private long lastPublishedAt;
+        private boolean flushScheduled;
+    }
+}
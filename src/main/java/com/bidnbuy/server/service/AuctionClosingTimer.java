@@ -0,0 +1,222 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.enums.SellingStatus;
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import com.bidnbuy.server.repository.projection.AuctionDeadlineProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 경매 마감 타이머 (계층형 타이밍 휠)
+ * - 100ms 틱, 단계별 512칸 4단계 (51초 / 7시간 / 155일 / 그 이상)
+ * - 기동 시 종료되지 않은 경매의 마감 시간을 모두 올리고, 등록/삭제/마감 시간 변경 시 갱신한다.
+ * - 마감 시간이 지난 틱에 해당 경매의 마감 처리를 실행한다. (DB 스윕은 안전망으로만 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionClosingTimer {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 512;
+    private static final int LEVELS = 4;
+    private static final int BATCH_SIZE = 500;
+
+    private final AuctionProductsRepository auctionProductsRepository;
+    private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionBidJournal auctionBidJournal;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Value("${auction.closing.timer.enabled:true}")
+    private boolean enabled;
+
+    // 단계별 칸, level * WHEEL_SIZE + index 위치 (this 로 보호, 빈 칸은 null)
+    private final List<List<TimerEntry>> wheels = new ArrayList<>(Collections.nCopies(LEVELS * WHEEL_SIZE, null));
+    private final Map<Long, TimerEntry> entries = new HashMap<>();
+    private long currentTick;
+    private LocalDateTime lastRefreshedAt;
+
+    private ScheduledExecutorService ticker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            currentTick = toTick(System.currentTimeMillis());
+            lastRefreshedAt = LocalDateTime.now();
+            List<AuctionDeadlineProjection> deadlines = auctionProductsRepository.findOpenAuctionDeadlines(
+                    List.of(SellingStatus.FINISH, SellingStatus.COMPLETED));
+            for (AuctionDeadlineProjection deadline : deadlines) {
+                schedule(deadline.getAuctionId(), deadline.getEndTime());
+            }
+            log.info("경매 마감 타이머 시작: 예약 {}건", entries.size());
+        }
+
+        ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("auction-close-timer-"));
+        ticker.scheduleAtFixedRate(this::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ticker != null) {
+            ticker.shutdown();
+        }
+    }
+
+    // 마감 예약 (이미 예약된 경매면 새 마감 시간으로 교체)
+    public synchronized void schedule(Long auctionId, LocalDateTime endTime) {
+        // 기동 적재 전에 들어온 예약은 적재 쿼리가 대신 올린다
+        if (!enabled || currentTick == 0 || auctionId == null || endTime == null) {
+            return;
+        }
+        TimerEntry previous = entries.remove(auctionId);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        TimerEntry entry = new TimerEntry(auctionId, endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        entries.put(auctionId, entry);
+        place(entry);
+    }
+
+    // 다른 노드에서 등록된 경매도 예약되도록 최근 등록분을 주기적으로 다시 읽는다
+    @Scheduled(fixedDelayString = "${auction.closing.timer.refresh-ms:10000}", scheduler = "auctionClosingScheduler")
+    public void refresh() {
+        LocalDateTime since;
+        synchronized (this) {
+            if (currentTick == 0) {
+                return;
+            }
+            since = lastRefreshedAt.minusSeconds(10);
+            lastRefreshedAt = LocalDateTime.now();
+        }
+        List<AuctionDeadlineProjection> deadlines = auctionProductsRepository.findOpenAuctionDeadlinesCreatedAfter(
+                since, List.of(SellingStatus.FINISH, SellingStatus.COMPLETED));
+        for (AuctionDeadlineProjection deadline : deadlines) {
+            schedule(deadline.getAuctionId(), deadline.getEndTime());
+        }
+    }
+
+    // 예약 취소 (삭제된 경매 등)
+    public synchronized void cancel(Long auctionId) {
+        TimerEntry entry = entries.remove(auctionId);
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    // 틱 진행: 상위 단계 칸을 하위 단계로 내리고, 0단계 칸의 경매를 마감 처리
+    private void advance() {
+        List<TimerEntry> expired = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = System.currentTimeMillis() / TICK_MILLIS;
+            while (currentTick <= nowTick) {
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    long span = span(level);
+                    if (currentTick % span == 0) {
+                        List<TimerEntry> bucket = takeBucket(level, (int) ((currentTick / span) % WHEEL_SIZE));
+                        if (bucket != null) {
+                            bucket.forEach(this::place);
+                        }
+                    }
+                }
+                List<TimerEntry> due = takeBucket(0, (int) (currentTick % WHEEL_SIZE));
+                if (due != null) {
+                    expired.addAll(due);
+                }
+                currentTick++;
+            }
+            expired.removeIf(entry -> entry.cancelled);
+            expired.forEach(entry -> entries.remove(entry.auctionId, entry));
+        }
+
+        if (expired.isEmpty()) {
+            return;
+        }
+        List<Long> due = new ArrayList<>(expired.size());
+        for (TimerEntry entry : expired) {
+            if (!schedulerLeaseService.ownsAuction(entry.auctionId)) {
+                // 다른 노드 담당 (담당 노드가 죽으면 재분배 시 스윕으로 정리됨)
+                continue;
+            }
+            // 저널에 아직 DB 반영되지 않은 입찰이 있으면 낙찰자 판정이 틀어지므로 잠시 뒤 다시 시도
+            if (auctionBidJournal.hasUnflushed(entry.auctionId)) {
+                schedule(entry.auctionId, LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS * 2)));
+            } else {
+                due.add(entry.auctionId);
+            }
+        }
+        // 같은 틱에 마감되는 경매는 묶어서 처리 (입찰 없는 경매는 일괄 유찰)
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            auctionSchedulerService.closeExpiredAuctions(due.subList(from, Math.min(from + BATCH_SIZE, due.size())));
+        }
+    }
+
+    // 마감 틱이 현재 틱과 가장 가까운 단계의 칸에 넣는다. 이미 지난 마감은 바로 다음 틱에 처리
+    private void place(TimerEntry entry) {
+        if (entry.cancelled) {
+            return;
+        }
+        long deadlineTick = Math.max(entry.deadlineTick, currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            long span = span(level);
+            long slot = deadlineTick / span;
+            if (slot - currentTick / span < WHEEL_SIZE || level == LEVELS - 1) {
+                int index = (int) (slot % WHEEL_SIZE);
+                int position = level * WHEEL_SIZE + index;
+                if (wheels.get(position) == null) {
+                    wheels.set(position, new ArrayList<>());
+                }
+                wheels.get(position).add(entry);
+                return;
+            }
+        }
+    }
+
+    private List<TimerEntry> takeBucket(int level, int index) {
+        return wheels.set(level * WHEEL_SIZE + index, null);
+    }
+
+    private static long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= WHEEL_SIZE;
+        }
+        return span;
+    }
+
+    // 마감 시각 이후의 첫 틱 (일찍 실행되지 않도록 올림)
+    private static long toTick(long epochMillis) {
+        return (epochMillis + TICK_MILLIS - 1) / TICK_MILLIS;
+    }
+
+    private static final class TimerEntry {
+        private final Long auctionId;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private TimerEntry(Long auctionId, long deadlineMillis) {
+            this.auctionId = auctionId;
+            this.deadlineTick = toTick(deadlineMillis);
+        }
+    }
+}
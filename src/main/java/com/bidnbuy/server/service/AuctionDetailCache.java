@@ -0,0 +1,90 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.dto.ImageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 경매 상세의 정적인 부분 캐시 (제목/설명/이미지/카테고리/판매자 등 입찰과 무관한 값)
+ * - 캐시에 있으면 상세 조회는 가격/입찰 수/찜 같은 자주 바뀌는 값만 DB에서 읽는다.
+ * - 삭제 시 해당 노드에서는 바로 비우고, 판매자 정보 변경은 조회마다 판매자 수정 시각을 비교해 다시 읽는다.
+ * - 담긴 ImageDto 는 여러 응답이 공유하므로 수정하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionDetailCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.detail.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.detail.cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    @Value("${auction.detail.cache.max-entries:2000}")
+    private int maxEntries;
+
+    // 접근 순서 LRU (this 로 보호)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = Counter.builder("auction.detail.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("auction.detail.cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    public Optional<StaticPart> get(Long auctionId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            Entry entry = entries.get(auctionId);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return Optional.of(entry.part);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(Long auctionId, StaticPart part) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            entries.put(auctionId, new Entry(part, System.currentTimeMillis() + ttlMillis));
+            var iterator = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void evict(Long auctionId) {
+        entries.remove(auctionId);
+    }
+
+    private record Entry(StaticPart part, long expiresAt) {
+    }
+
+    public record StaticPart(Long auctionId, String title, String description, Integer minBidPrice,
+                             LocalDateTime createdAt, Long categoryId, String categoryMain, String categorySub,
+                             Long sellerId, String sellerNickname, String sellerProfileImageUrl,
+                             Double sellerTemperature, LocalDateTime sellerUpdatedAt, List<ImageDto> images) {
+    }
+}
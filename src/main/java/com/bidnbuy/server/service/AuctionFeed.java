@@ -0,0 +1,234 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import com.bidnbuy.server.repository.projection.AuctionListProjection;
+import com.bidnbuy.server.repository.projection.AuctionScoreProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/*
+ * 마감 임박 / 지금 인기 피드 (메모리)
+ * - 진행 중인 경매를 마감 시각 순 집합과 인기 점수 순 집합으로 들고 있고, 상위 N개는 DB 없이 꺼낸다.
+ * - 인기 점수 = 입찰/찜 가중치를 반감기(half-life)로 감쇠해 더한 값.
+ *   기준 시각(base)에서 멀어질수록 새 이벤트에 2^(경과/반감기)를 곱해 더하므로 기존 점수를 매번 줄일 필요가 없다.
+ * - 입찰/찜/등록/종료/삭제 시 이 노드에서 바로 반영하고, reload-ms 마다 DB 기준으로 통째로 다시 만든다.
+ *   (다른 노드의 입찰/찜, 기준 시각 재설정이 이때 반영된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionFeed {
+
+    private static final Comparator<EndKey> END_ORDER =
+            Comparator.comparing(EndKey::endTime).thenComparing(EndKey::auctionId);
+    private static final Comparator<HotKey> HOT_ORDER =
+            Comparator.comparingDouble(HotKey::score).reversed().thenComparing(HotKey::auctionId, Comparator.reverseOrder());
+
+    private final AuctionProductsRepository auctionProductsRepository;
+
+    @Value("${auction.feed.hot.half-life-minutes:60}")
+    private long halfLifeMinutes;
+
+    @Value("${auction.feed.hot.bid-weight:1.0}")
+    private double bidWeight;
+
+    @Value("${auction.feed.hot.wish-weight:0.5}")
+    private double wishWeight;
+
+    private volatile State state = new State(System.currentTimeMillis());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${auction.feed.reload-ms:60000}", initialDelayString = "${auction.feed.reload-ms:60000}")
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        State fresh = new State(startedAt);
+
+        for (AuctionListProjection row : auctionProductsRepository.findFeedCandidates(now)) {
+            fresh.put(Item.of(row));
+        }
+        // 반감기 4번 이전 활동은 1/16 이하라 버린다
+        long halfLifeSeconds = halfLifeMinutes * 60;
+        for (AuctionScoreProjection score : auctionProductsRepository.findActivityScores(
+                now, now.minusSeconds(halfLifeSeconds * 4), halfLifeSeconds, bidWeight, wishWeight)) {
+            if (fresh.items.containsKey(score.getAuctionId()) && score.getScore() != null) {
+                fresh.addScore(score.getAuctionId(), score.getScore());
+            }
+        }
+
+        state = fresh;
+        log.debug("경매 피드 재적재: {}건, {}ms", fresh.items.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 마감 임박순 상위 limit 개 (이미 마감 시각이 지난 것은 건너뜀)
+    public List<AuctionListProjection> endingSoon(int limit) {
+        State current = state;
+        LocalDateTime now = LocalDateTime.now();
+        List<AuctionListProjection> result = new ArrayList<>(limit);
+        for (EndKey key : current.byEndTime.tailSet(new EndKey(now, Long.MAX_VALUE))) {
+            Item item = current.items.get(key.auctionId());
+            if (item != null) {
+                result.add(item);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // 인기순 상위 limit 개 (점수가 없는 경매는 나오지 않음)
+    public List<AuctionListProjection> hotNow(int limit) {
+        State current = state;
+        LocalDateTime now = LocalDateTime.now();
+        List<AuctionListProjection> result = new ArrayList<>(limit);
+        for (HotKey key : current.byScore) {
+            Item item = current.items.get(key.auctionId());
+            if (item != null && item.endTime().isAfter(now)) {
+                result.add(item);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // 경매 등록 (커밋 이후 호출)
+    public void add(Long auctionId) {
+        auctionProductsRepository.findListRowById(auctionId)
+                .filter(row -> row.getEndTime() != null && row.getEndTime().isAfter(LocalDateTime.now()))
+                .ifPresent(row -> state.put(Item.of(row)));
+    }
+
+    public void onBid(Long auctionId, Integer bidPrice) {
+        State current = state;
+        current.items.computeIfPresent(auctionId, (id, item) -> item.withCurrentPrice(bidPrice));
+        current.bump(auctionId, bidWeight, halfLifeMinutes);
+    }
+
+    public void onWish(Long auctionId, Integer wishCount, boolean liked) {
+        State current = state;
+        current.items.computeIfPresent(auctionId, (id, item) -> item.withWishCount(wishCount));
+        if (liked) {
+            current.bump(auctionId, wishWeight, halfLifeMinutes);
+        }
+    }
+
+    // 종료 / 삭제
+    public void remove(Long auctionId) {
+        state.remove(auctionId);
+    }
+
+    private static final class State {
+        private final long baseMillis;
+        private final Map<Long, Item> items = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<EndKey> byEndTime = new ConcurrentSkipListSet<>(END_ORDER);
+        private final ConcurrentSkipListSet<HotKey> byScore = new ConcurrentSkipListSet<>(HOT_ORDER);
+        // 점수/항목 변경(삭제 후 재삽입)은 State 잠금으로 직렬화, 조회는 잠금 없이
+        private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+
+        private State(long baseMillis) {
+            this.baseMillis = baseMillis;
+        }
+
+        private synchronized void put(Item item) {
+            Item previous = items.put(item.auctionId(), item);
+            if (previous != null) {
+                byEndTime.remove(new EndKey(previous.endTime(), previous.auctionId()));
+            }
+            byEndTime.add(new EndKey(item.endTime(), item.auctionId()));
+        }
+
+        private synchronized void remove(Long auctionId) {
+            Item item = items.remove(auctionId);
+            if (item != null) {
+                byEndTime.remove(new EndKey(item.endTime(), auctionId));
+            }
+            Double score = scores.remove(auctionId);
+            if (score != null) {
+                byScore.remove(new HotKey(score, auctionId));
+            }
+        }
+
+        // weight 를 기준 시각 대비 현재 시점 가치로 환산해 더한다
+        private void bump(Long auctionId, double weight, long halfLifeMinutes) {
+            if (!items.containsKey(auctionId)) {
+                return;
+            }
+            double elapsedHalfLives = (System.currentTimeMillis() - baseMillis) / (halfLifeMinutes * 60_000.0);
+            addScore(auctionId, weight * Math.pow(2, elapsedHalfLives));
+        }
+
+        // 적재 시점(base) 기준 점수
+        private synchronized void addScore(Long auctionId, double delta) {
+            Double previous = scores.get(auctionId);
+            double next = (previous != null ? previous : 0) + delta;
+            if (previous != null) {
+                byScore.remove(new HotKey(previous, auctionId));
+            }
+            scores.put(auctionId, next);
+            byScore.add(new HotKey(next, auctionId));
+        }
+    }
+
+    private record EndKey(LocalDateTime endTime, Long auctionId) {
+    }
+
+    private record HotKey(double score, Long auctionId) {
+    }
+
+    // 목록 응답으로 바로 쓰는 불변 스냅샷 (가격/찜 수가 바뀌면 새 객체로 교체)
+    private record Item(Long auctionId, String title, Integer currentPrice, LocalDateTime createdAt,
+                        LocalDateTime startTime, LocalDateTime endTime, String sellingStatus, Long sellerId,
+                        String sellerNickname, String mainImageUrl, Integer wishCount) implements AuctionListProjection {
+
+        static Item of(AuctionListProjection row) {
+            return new Item(row.getAuctionId(), row.getTitle(), row.getCurrentPrice(), row.getCreatedAt(),
+                    row.getStartTime(), row.getEndTime(), row.getSellingStatus(), row.getSellerId(),
+                    row.getSellerNickname(), row.getMainImageUrl(), row.getWishCount());
+        }
+
+        Item withCurrentPrice(Integer price) {
+            if (currentPrice != null && price != null && price <= currentPrice) {
+                return this;
+            }
+            return new Item(auctionId, title, price, createdAt, startTime, endTime, sellingStatus, sellerId,
+                    sellerNickname, mainImageUrl, wishCount);
+        }
+
+        Item withWishCount(Integer count) {
+            return new Item(auctionId, title, currentPrice, createdAt, startTime, endTime, sellingStatus, sellerId,
+                    sellerNickname, mainImageUrl, count);
+        }
+
+        @Override public Long getAuctionId() { return auctionId; }
+        @Override public String getTitle() { return title; }
+        @Override public Integer getCurrentPrice() { return currentPrice; }
+        @Override public LocalDateTime getCreatedAt() { return createdAt; }
+        @Override public LocalDateTime getStartTime() { return startTime; }
+        @Override public LocalDateTime getEndTime() { return endTime; }
+        @Override public String getSellingStatus() { return sellingStatus; }
+        @Override public Long getSellerId() { return sellerId; }
+        @Override public String getSellerNickname() { return sellerNickname; }
+        @Override public String getMainImageUrl() { return mainImageUrl; }
+        @Override public Integer getWishCount() { return wishCount; }
+    }
+}
@@ -0,0 +1,211 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.repository.projection.AuctionListProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * 경매 목록(GET /auctions) 결과 캐시
+ * - 정규화한 필터 조합을 키로 프로젝션 페이지를 짧게(TTL) 보관한다. 사용자별 찜 여부는 담지 않고 조회 후 덧씌운다.
+ * - 같은 키의 미스가 동시에 몰리면 DB 조회는 한 번만 하고 나머지는 그 결과를 기다린다. (single-flight)
+ * - 경매 등록/삭제 시 전체 무효화, 입찰 시 해당 경매가 들어있거나 가격으로 정렬/필터한 항목만 무효화.
+ *   다른 노드의 변경은 TTL 이 지나야 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionListCache {
+
+    // 경매별 무효화 순번을 들고 있는 최대 경매 수 (넘으면 비우고 그 전에 시작한 조회만 저장하지 않는다)
+    private static final int MAX_TRACKED_AUCTIONS = 10_000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.list.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.list.cache.ttl-ms:5000}")
+    private long ttlMillis;
+
+    @Value("${auction.list.cache.max-entries:500}")
+    private int maxEntries;
+
+    // 접근 순서 LRU (this 로 보호)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, CompletableFuture<Page<AuctionListProjection>>> loading = new ConcurrentHashMap<>();
+    // 무효화 순번: 조회 시작 이후 그 결과가 의존하는 범위(전체 / 가격 / 페이지에 담긴 경매)가 무효화됐으면 저장하지 않는다
+    private final AtomicLong sequence = new AtomicLong();
+    // 아래는 this 로 보호
+    private long allInvalidatedAt;
+    private long priceInvalidatedAt;
+    private final Map<Long, Long> auctionInvalidatedAt = new HashMap<>();
+    // 경매별 순번을 비운 시점 (이보다 먼저 시작한 조회는 어느 경매가 바뀌었는지 모르므로 저장하지 않는다)
+    private long auctionsClearedAt;
+
+    private Counter hits;
+    private Counter misses;
+    private Timer loadTimer;
+
+    @PostConstruct
+    void init() {
+        hits = Counter.builder("auction.list.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("auction.list.cache.requests").tag("result", "miss").register(meterRegistry);
+        loadTimer = Timer.builder("auction.list.cache.load").register(meterRegistry);
+        Gauge.builder("auction.list.cache.size", this, cache -> cache.size()).register(meterRegistry);
+    }
+
+    public Page<AuctionListProjection> get(Key key, Supplier<Page<AuctionListProjection>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.page;
+            }
+        }
+        misses.increment();
+
+        CompletableFuture<Page<AuctionListProjection>> mine = new CompletableFuture<>();
+        CompletableFuture<Page<AuctionListProjection>> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            long startedAt = sequence.get();
+            Page<AuctionListProjection> page = loadTimer.record(loader);
+            synchronized (this) {
+                if (unchangedSince(startedAt, key, page)) {
+                    entries.put(key, new Entry(page, System.currentTimeMillis() + ttlMillis));
+                    evictOverflow();
+                }
+            }
+            mine.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    // 경매 등록/삭제: 목록 구성이 바뀌므로 전부 무효화 (트랜잭션 안이면 커밋 이후)
+    public void invalidateAll() {
+        afterCommit(() -> {
+            synchronized (this) {
+                allInvalidatedAt = sequence.incrementAndGet();
+                auctionInvalidatedAt.clear();
+                entries.clear();
+            }
+        });
+    }
+
+    // 입찰: 해당 경매가 보이는 페이지와 가격 정렬/가격 필터 페이지만 무효화
+    public void invalidateAuction(Long auctionId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                long invalidatedAt = sequence.incrementAndGet();
+                priceInvalidatedAt = invalidatedAt;
+                if (auctionInvalidatedAt.size() >= MAX_TRACKED_AUCTIONS) {
+                    auctionInvalidatedAt.clear();
+                    auctionsClearedAt = invalidatedAt;
+                }
+                auctionInvalidatedAt.put(auctionId, invalidatedAt);
+                entries.entrySet().removeIf(e -> e.getKey().dependsOnPrice() || contains(e.getValue().page, auctionId));
+            }
+        });
+    }
+
+    // this 잠금 안에서 호출: startedAt 이후 이 페이지가 의존하는 범위가 무효화되지 않았는지
+    private boolean unchangedSince(long startedAt, Key key, Page<AuctionListProjection> page) {
+        if (allInvalidatedAt > startedAt || auctionsClearedAt > startedAt) {
+            return false;
+        }
+        if (key.dependsOnPrice() && priceInvalidatedAt > startedAt) {
+            return false;
+        }
+        for (AuctionListProjection row : page.getContent()) {
+            if (auctionInvalidatedAt.getOrDefault(row.getAuctionId(), 0L) > startedAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(Page<AuctionListProjection> page, Long auctionId) {
+        return page.getContent().stream().anyMatch(row -> auctionId.equals(row.getAuctionId()));
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private record Entry(Page<AuctionListProjection> page, long expiresAt) {
+    }
+
+    // 목록 필터 조합 (대소문자/빈 문자열 차이는 같은 키로 본다)
+    public record Key(int page, int size, Integer minPrice, Integer maxPrice, String sortKey, boolean includeEnded,
+                      String searchKeyword, Long mainCategoryId, Long subCategoryId, String userEmail) {
+
+        public static Key of(int page, int size, Integer minPrice, Integer maxPrice, String sortKey, Boolean includeEnded,
+                             String searchKeyword, Long mainCategoryId, Long subCategoryId, String userEmail) {
+            return new Key(page, size, minPrice, maxPrice, sortKey, Boolean.TRUE.equals(includeEnded),
+                    normalize(searchKeyword), mainCategoryId, subCategoryId,
+                    (userEmail == null || userEmail.isBlank()) ? null : normalize(userEmail));
+        }
+
+        private static String normalize(String value) {
+            return (value == null || value.isEmpty()) ? null : value.toLowerCase(Locale.ROOT);
+        }
+
+        boolean dependsOnPrice() {
+            return sortKey.startsWith("price") || minPrice != null || maxPrice != null;
+        }
+    }
+}
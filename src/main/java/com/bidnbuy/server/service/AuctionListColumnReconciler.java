@@ -0,0 +1,46 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 경매 목록용 비정규화 컬럼(wish_count, main_image_url) 보정
+ * - 찜 증감 누락, 직접 수정한 데이터 등으로 어긋난 값을 wish_list / image 기준으로 다시 맞춘다.
+ * - auction_id 구간 단위로 나눠 구간마다 짧은 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionListColumnReconciler {
+
+    private final AuctionProductsRepository auctionProductsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auction.list-columns.reconcile.range-size:5000}")
+    private int rangeSize;
+
+    // 보정한 행 수 반환
+    public int reconcile() {
+        Long maxId = auctionProductsRepository.findMaxAuctionId();
+        if (maxId == null) {
+            return 0;
+        }
+        int fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += rangeSize) {
+            long from = fromId;
+            long to = Math.min(fromId + rangeSize - 1, maxId);
+            Integer updated = transactionTemplate.execute(status ->
+                    auctionProductsRepository.reconcileWishCounts(from, to)
+                            + auctionProductsRepository.reconcileMainImageUrls(from, to));
+            fixed += updated != null ? updated : 0;
+        }
+        if (fixed > 0) {
+            log.warn("경매 목록 비정규화 컬럼 보정: {}건", fixed);
+        }
+        return fixed;
+    }
+}
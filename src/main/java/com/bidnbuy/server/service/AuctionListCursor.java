@@ -0,0 +1,35 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.enums.ErrorCode;
+import com.bidnbuy.server.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * 경매 목록 커서: 정렬 키 + 마지막 행의 정렬 값 + auction_id
+ * 클라이언트에는 base64url 문자열로만 노출한다. (형식에 의존하지 않도록)
+ */
+record AuctionListCursor(String sortKey, String sortValue, long auctionId) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = sortKey + SEPARATOR + sortValue + SEPARATOR + auctionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 키로 만든 커서는 이어서 쓸 수 없다
+    static AuctionListCursor decode(String token, String expectedSortKey) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSortKey)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new AuctionListCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -2,23 +2,37 @@ package com.bidnbuy.server.service;
 
 import com.bidnbuy.server.dto.*;
 import com.bidnbuy.server.entity.*;
-import com.bidnbuy.server.enums.AuctionStatus;
+import com.bidnbuy.server.enums.ErrorCode;
 import com.bidnbuy.server.enums.ImageType;
-import com.bidnbuy.server.enums.NotificationType;
 import com.bidnbuy.server.enums.SellingStatus;
+import com.bidnbuy.server.event.AuctionCreatedEvent;
+import com.bidnbuy.server.exception.CustomException;
 import com.bidnbuy.server.repository.*;
+import com.bidnbuy.server.repository.projection.AuctionDetailProjection;
+import com.bidnbuy.server.repository.projection.AuctionListProjection;
+import com.bidnbuy.server.repository.projection.AuctionLiveProjection;
+import com.bidnbuy.server.util.ConditionalGetSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,18 +40,40 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AuctionProductsService {
 
+    // 첫 페이지 커서 (정렬 값의 양 끝)
+    private static final LocalDateTime CURSOR_MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime CURSOR_MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     // 불변성을 보장하기 위해 final로 사용
     private final AuctionProductsRepository auctionProductsRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final ImageRepository imageRepository;
     private final WishlistRepository wishlistRepository;
-    private final AuctionHistoryService auctionHistoryService;
     private final ImageService imageService;
-    private final UserNotificationService userNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final AuctionClosingTimer auctionClosingTimer;
+    private final AuctionTitleIndex auctionTitleIndex;
+    private final CategoryTreeCache categoryTreeCache;
+    private final AuctionListCache auctionListCache;
+    private final AuctionDetailCache auctionDetailCache;
+    private final AuctionFeed auctionFeed;
+    private final LikedAuctionCache likedAuctionCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public AuctionProductsEntity create(Long userId, CreateAuctionDto dto, List<MultipartFile> imageFiles) {
+        recordTransactionTime("auction.create.transaction", System.nanoTime());
 
         // 1. 기본 데이터 유효성 검증
         UserEntity user = userRepository.findById(userId)
@@ -53,6 +89,7 @@ public class AuctionProductsService {
         auctionProducts.setCurrentPrice(dto.getStartPrice());
         auctionProducts.setSellingStatus(SellingStatus.PROGRESS);
         auctionProducts.setBidCount(0);
+        auctionProducts.setWishCount(0);
 
         // 3. 물품 저장 (ID를 획득하여 이미지 경로에 사용하기 위해 먼저 저장)
         AuctionProductsEntity savedProducts = auctionProductsRepository.save(auctionProducts);
@@ -83,22 +120,20 @@ public class AuctionProductsService {
             // Image Entity들을 DB에 일괄 저장
             imageRepository.saveAll(imageEntities);
             savedProducts.setImages(imageEntities);
-
-            // 경매 상태 기록
-            auctionHistoryService.recordStatusChange(
-                    savedProducts.getAuctionId(),
-                    AuctionStatus.PROGRESS
-            );
+            // 목록 조회용 대표 이미지 (커밋 시 함께 반영)
+            savedProducts.setMainImageUrl(imageEntities.get(0).getImageUrl());
         }
 
-        // 알림 추가 - kgb
-        userNotificationService.createNotification(userId, NotificationType.ALERT, "경매가 등록되었습니다.");
+        // 경매 상태 기록, 등록 알림(FCM 전송 포함)은 커밋 이후 이벤트 리스너에서 처리
+        eventPublisher.publishEvent(new AuctionCreatedEvent(savedProducts.getAuctionId(), userId));
+        auctionClosingTimer.schedule(savedProducts.getAuctionId(), savedProducts.getEndTime());
+        auctionTitleIndex.add(savedProducts.getAuctionId(), savedProducts.getTitle());
+        auctionListCache.invalidateAll();
 
         return savedProducts;
     }
 
-    // 전체 리스트 출력
-    @Transactional(readOnly = true)
+    // 전체 리스트 출력 (캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회)
     public PagingResponseDto<AuctionListResponseDto> getAllAuctions(
             Long userId,
             int page,
@@ -113,78 +148,18 @@ public class AuctionProductsService {
             String userEmail
     ) {
 
-        // 상태 리스트 결정, 정렬 키, 페이지
-        List<SellingStatus> statuses = getFilterStatuses(includeEnded);
+        // 정렬 키
         String sortKey = (sortBy != null ? sortBy.toLowerCase() : "latest");
-        Pageable pageable = PageRequest.of(page, size);
 
-        // enum -> 문자열 이름 리스트로 변환 (native IN 절 호환)
-        List<String> statusNames = statuses.stream().map(Enum::name).toList();
-
-        // 네이티브 프로젝션 쿼리 호출
-        Page<com.bidnbuy.server.repository.projection.AuctionListProjection> projectionPage;
-        if (userEmail != null && !userEmail.trim().isEmpty()) {
-            projectionPage = auctionProductsRepository.findAuctionsByUserEmailNative(
-                    userEmail,
-                    searchKeyword,
-                    mainCategoryId,
-                    subCategoryId,
-                    minPrice,
-                    maxPrice,
-                    statusNames,
-                    sortKey,
-                    pageable
-            );
-        } else {
-            projectionPage = auctionProductsRepository.findAuctionsNative(
-                    searchKeyword,
-                    mainCategoryId,
-                    subCategoryId,
-                    minPrice,
-                    maxPrice,
-                    statusNames,
-                    sortKey,
-                    pageable
-            );
-        }
-
-        // 최적화 코드
-        List<Long> auctionIds = projectionPage.getContent().stream()
-                .map(com.bidnbuy.server.repository.projection.AuctionListProjection::getAuctionId)
-                .collect(Collectors.toList());
-
-        Set<Long> likedAuctionIds = new java.util.HashSet<>();
-        if (userId != null && !auctionIds.isEmpty()) {
-            // DB를 딱 한 번만 더 호출합니다.
-            List<Long> likedIds = wishlistRepository.findLikedAuctionIdsByUserIdAndAuctionIds(userId, auctionIds);
-            likedAuctionIds.addAll(likedIds);
-        }
+        // 같은 필터 조합은 캐시된 페이지를 쓰고, 찜 여부만 사용자별로 덧씌운다
+        AuctionListCache.Key cacheKey = AuctionListCache.Key.of(page, size, minPrice, maxPrice, sortKey, includeEnded,
+                searchKeyword, mainCategoryId, subCategoryId, userEmail);
+        // 목록 조회만 읽기 전용 트랜잭션(replica 라우팅 대상), 찜 여부는 본인 데이터라 primary 에서
+        Page<AuctionListProjection> projectionPage = auctionListCache.get(cacheKey, () -> readOnlyTransaction.execute(status ->
+                loadAuctionPage(page, size, minPrice, maxPrice, sortKey, includeEnded, searchKeyword, mainCategoryId,
+                        subCategoryId, userEmail)));
 
-        // 프로젝션 -> 응답 dto 매핑
-        List<AuctionListResponseDto> dtoList = projectionPage.getContent().stream()
-                .map(p -> {
-                    // boolean liked = false;
-                     boolean liked = likedAuctionIds.contains(p.getAuctionId());
-
-                  //  if (userId != null) {
-                  //      liked = wishlistRepository.existsByUser_UserIdAndAuction_AuctionId(userId, p.getAuctionId());
-                  //  }
-
-                    return AuctionListResponseDto.builder()
-                            .auctionId(p.getAuctionId())
-                            .title(p.getTitle())
-                            .currentPrice(p.getCurrentPrice())
-                            .createdAt(p.getCreatedAt())
-                            .endTime(p.getEndTime())
-                            .sellingStatus(calculateSellingStatusFromDbValue(p.getSellingStatus(), p.getEndTime(), p.getStartTime()))
-                            .sellerId(p.getSellerId())
-                            .sellerNickname(p.getSellerNickname())
-                            .mainImageUrl(p.getMainImageUrl())
-                            .wishCount(p.getWishCount())
-                            .liked(liked)
-                            .build();
-                })
-                .collect(java.util.stream.Collectors.toList());
+        List<AuctionListResponseDto> dtoList = toListResponses(projectionPage.getContent(), userId);
 
         return PagingResponseDto.<AuctionListResponseDto>builder()
                 .data(dtoList)
@@ -197,21 +172,311 @@ public class AuctionProductsService {
                 .build();
     }
 
+    /*
+     * 커서(keyset) 방식 목록 조회: OFFSET / COUNT 없이 마지막 행 다음부터 size 건
+     * 정렬 키(latest, price_asc, price_desc, end_time)마다 (정렬 값, auction_id) 기준으로 이어서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<AuctionListResponseDto> getAuctionsByCursor(
+            Long userId,
+            String cursor,
+            int size,
+            Integer minPrice,
+            Integer maxPrice,
+            String sortBy,
+            Boolean includeEnded,
+            String searchKeyword,
+            Long mainCategoryId,
+            Long subCategoryId
+    ) {
+        if (size < 1 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        String sortKey = sortBy != null ? sortBy.toLowerCase() : "latest";
+        if (!List.of("latest", "price_asc", "price_desc", "end_time").contains(sortKey)) {
+            sortKey = "latest";
+        }
+        List<String> statusNames = getFilterStatuses(includeEnded).stream().map(Enum::name).toList();
+
+        List<Long> categoryIds = expandCategoryFilter(mainCategoryId, subCategoryId);
+        int useCategories = categoryIds.isEmpty() ? 0 : 1;
+        if (categoryIds.isEmpty()) {
+            categoryIds = List.of(-1L);
+        }
+
+        String likeKeyword = searchKeyword;
+        int useCandidates = 0;
+        List<Long> candidateIds = List.of(-1L);
+        if (searchKeyword != null && !searchKeyword.isEmpty()) {
+            Optional<List<Long>> candidates = auctionTitleIndex.search(searchKeyword);
+            if (candidates.isPresent()) {
+                if (candidates.get().isEmpty()) {
+                    return CursorResponseDto.<AuctionListResponseDto>builder()
+                            .data(List.of())
+                            .hasNext(false)
+                            .pageSize(size)
+                            .build();
+                }
+                likeKeyword = null;
+                useCandidates = 1;
+                candidateIds = candidates.get();
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 읽는다
+        int limit = size + 1;
+        AuctionListCursor after = (cursor != null && !cursor.isBlank()) ? AuctionListCursor.decode(cursor, sortKey) : null;
+        List<AuctionListProjection> rows;
+        try {
+            rows = switch (sortKey) {
+                case "price_asc" -> auctionProductsRepository.findPriceAscAfterCursor(
+                        likeKeyword, useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames,
+                        after != null ? Integer.valueOf(after.sortValue()) : Integer.MIN_VALUE,
+                        after != null ? after.auctionId() : 0L, limit);
+                case "price_desc" -> auctionProductsRepository.findPriceDescAfterCursor(
+                        likeKeyword, useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames,
+                        after != null ? Integer.valueOf(after.sortValue()) : Integer.MAX_VALUE,
+                        after != null ? after.auctionId() : Long.MAX_VALUE, limit);
+                case "end_time" -> auctionProductsRepository.findEndTimeAfterCursor(
+                        likeKeyword, useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames,
+                        after != null ? LocalDateTime.parse(after.sortValue()) : CURSOR_MIN_TIME,
+                        after != null ? after.auctionId() : 0L, limit);
+                default -> auctionProductsRepository.findLatestAfterCursor(
+                        likeKeyword, useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames,
+                        after != null ? LocalDateTime.parse(after.sortValue()) : CURSOR_MAX_TIME,
+                        after != null ? after.auctionId() : Long.MAX_VALUE, limit);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<AuctionListProjection> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AuctionListProjection last = page.get(page.size() - 1);
+            String sortValue = switch (sortKey) {
+                case "price_asc", "price_desc" -> String.valueOf(last.getCurrentPrice());
+                case "end_time" -> last.getEndTime().toString();
+                default -> last.getCreatedAt().toString();
+            };
+            nextCursor = new AuctionListCursor(sortKey, sortValue, last.getAuctionId()).encode();
+        }
+
+        return CursorResponseDto.<AuctionListResponseDto>builder()
+                .data(toListResponses(page, userId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .build();
+    }
+
+    // 목록 한 페이지 DB 조회 (캐시 미스일 때만)
+    private Page<AuctionListProjection> loadAuctionPage(
+            int page,
+            int size,
+            Integer minPrice,
+            Integer maxPrice,
+            String sortKey,
+            Boolean includeEnded,
+            String searchKeyword,
+            Long mainCategoryId,
+            Long subCategoryId,
+            String userEmail
+    ) {
+        // 상태 리스트 결정, 페이지
+        List<SellingStatus> statuses = getFilterStatuses(includeEnded);
+        Pageable pageable = PageRequest.of(page, size);
+
+        // enum -> 문자열 이름 리스트로 변환 (native IN 절 호환)
+        List<String> statusNames = statuses.stream().map(Enum::name).toList();
+
+        // 대분류는 하위 카테고리 ID까지 펼쳐서 category_id IN 조건으로
+        List<Long> categoryIds = expandCategoryFilter(mainCategoryId, subCategoryId);
+        int useCategories = categoryIds.isEmpty() ? 0 : 1;
+        if (categoryIds.isEmpty()) {
+            categoryIds = List.of(-1L);
+        }
+
+        // 제목 검색은 색인에서 후보 경매 ID를 먼저 구하고 나머지 조건은 DB에서 거른다 (색인 적재 전에는 LIKE 검색)
+        String likeKeyword = searchKeyword;
+        int useCandidates = 0;
+        List<Long> candidateIds = List.of(-1L);
+        if (searchKeyword != null && !searchKeyword.isEmpty()) {
+            Optional<List<Long>> candidates = auctionTitleIndex.search(searchKeyword);
+            if (candidates.isPresent()) {
+                likeKeyword = null;
+                useCandidates = 1;
+                candidateIds = candidates.get();
+            }
+        }
+
+        // 정렬 키별 네이티브 프로젝션 쿼리 호출
+        String emailFilter = (userEmail != null && !userEmail.trim().isEmpty()) ? userEmail : null;
+        Page<AuctionListProjection> projectionPage;
+        if (candidateIds.isEmpty()) {
+            // 검색어를 포함한 제목이 없으면 DB를 거치지 않는다
+            projectionPage = Page.empty(pageable);
+        } else {
+            projectionPage = switch (sortKey) {
+                case "price_desc" -> auctionProductsRepository.findAuctionPageByPriceDesc(emailFilter, likeKeyword,
+                        useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames, pageable);
+                case "price_asc" -> auctionProductsRepository.findAuctionPageByPriceAsc(emailFilter, likeKeyword,
+                        useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames, pageable);
+                case "end_time" -> auctionProductsRepository.findAuctionPageByEndTime(emailFilter, likeKeyword,
+                        useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames, pageable);
+                case "relevance" -> useCandidates == 1
+                        ? auctionProductsRepository.findAuctionPageByRelevance(emailFilter, likeKeyword,
+                                useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames, pageable)
+                        : auctionProductsRepository.findAuctionPageLatest(emailFilter, likeKeyword,
+                                useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames, pageable);
+                default -> auctionProductsRepository.findAuctionPageLatest(emailFilter, likeKeyword,
+                        useCandidates, candidateIds, useCategories, categoryIds, minPrice, maxPrice, statusNames, pageable);
+            };
+        }
+
+        return projectionPage;
+    }
+
+    // 카테고리 조건 -> category_id 목록 (소분류가 있으면 소분류만, 대분류면 하위 카테고리 포함). 조건 없으면 빈 목록
+    private List<Long> expandCategoryFilter(Long mainCategoryId, Long subCategoryId) {
+        if (subCategoryId != null) {
+            return List.of(subCategoryId);
+        }
+        if (mainCategoryId != null) {
+            return categoryTreeCache.snapshot().subtreeIds(mainCategoryId);
+        }
+        return List.of();
+    }
+
+    // 목록 프로젝션 -> 응답 dto (찜 여부는 사용자별 찜 캐시에서)
+    private List<AuctionListResponseDto> toListResponses(List<? extends AuctionListProjection> rows, Long userId) {
+        List<Long> auctionIds = rows.stream()
+                .map(AuctionListProjection::getAuctionId)
+                .collect(Collectors.toList());
+
+        Set<Long> likedAuctionIds = likedAuctionCache.likedAmong(userId, auctionIds);
+
+        return rows.stream()
+                .map(p -> AuctionListResponseDto.builder()
+                        .auctionId(p.getAuctionId())
+                        .title(p.getTitle())
+                        .currentPrice(p.getCurrentPrice())
+                        .createdAt(p.getCreatedAt())
+                        .endTime(p.getEndTime())
+                        .sellingStatus(calculateSellingStatusFromDbValue(p.getSellingStatus(), p.getEndTime(), p.getStartTime()))
+                        .sellerId(p.getSellerId())
+                        .sellerNickname(p.getSellerNickname())
+                        .mainImageUrl(p.getMainImageUrl())
+                        .wishCount(p.getWishCount())
+                        .liked(likedAuctionIds.contains(p.getAuctionId()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 마감 임박 피드 (메모리에서 꺼내고, 로그인 사용자면 찜 여부만 DB 1회)
+    public List<AuctionListResponseDto> getEndingSoon(int limit, Long userId) {
+        if (limit < 1 || limit > 100) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        return toListResponses(auctionFeed.endingSoon(limit), userId);
+    }
+
+    // 지금 인기 피드 (최근 입찰/찜 감쇠 점수순)
+    public List<AuctionListResponseDto> getHotNow(int limit, Long userId) {
+        if (limit < 1 || limit > 100) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        return toListResponses(auctionFeed.hotNow(limit), userId);
+    }
+
     // 상세조회
     @Transactional(readOnly = true)
     public AuctionFindDto getAuctionFind(Long auctionId, Long userId) {
-        // 상세 프로젝션으로
-        var proj = auctionProductsRepository.findAuctionDetailNative(auctionId)
-                .orElseThrow(() -> new IllegalArgumentException("Auction Not Found with ID: " + auctionId));
-
-        // 로그인한 유저가 찜했는지 확인
-        boolean liked = false;
-        if(userId != null) {
-            liked = wishlistRepository.existsByUser_UserIdAndAuction_AuctionId(userId, auctionId);
+        return getAuctionFind(auctionId, userId, etag -> false);
+    }
+
+    // 상세조회 (조건부)
+    // 정적인 부분(제목/이미지/판매자 등)은 캐시, 가격/입찰 수/찜은 매번 한 줄 조회 -> 캐시 적중 시 DB 1회, 미스 시 2회
+    // notModified 가 ETag 를 받아 true 를 돌려주면 응답 DTO 를 만들지 않고 null 반환
+    @Transactional(readOnly = true)
+    public AuctionFindDto getAuctionFind(Long auctionId, Long userId, Predicate<String> notModified) {
+        AuctionDetailCache.StaticPart part = auctionDetailCache.get(auctionId).orElse(null);
+        AuctionDetailProjection detail = null;
+        AuctionLiveProjection live = null;
+
+        if (part != null) {
+            live = auctionProductsRepository.findAuctionLiveNative(auctionId)
+                    .orElseThrow(() -> {
+                        auctionDetailCache.evict(auctionId);
+                        return new IllegalArgumentException("Auction Not Found with ID: " + auctionId);
+                    });
+            // 판매자 정보가 바뀌었으면 정적인 부분도 다시 읽는다
+            if (!Objects.equals(live.getSellerUpdatedAt(), part.sellerUpdatedAt())) {
+                part = null;
+            }
+        }
+        if (part == null) {
+            // 상세 프로젝션으로 (찜 수 포함)
+            detail = auctionProductsRepository.findAuctionDetailNative(auctionId)
+                    .orElseThrow(() -> new IllegalArgumentException("Auction Not Found with ID: " + auctionId));
+            live = detail;
+        }
+
+        Integer currentPrice = live.getCurrentPrice();
+        Integer bidCount = live.getBidCount();
+        boolean liked = likedAuctionCache.isLiked(userId, auctionId);
+
+        // 이 노드의 입찰 처리기가 DB 보다 앞선 값을 들고 있으면 그 값으로 (저널 모드에서 DB 반영 전 구간)
+        var accepted = auctionBidSequencer.liveState(auctionId).orElse(null);
+        if (accepted != null && currentPrice != null && accepted.currentPrice() > currentPrice) {
+            currentPrice = accepted.currentPrice();
+            bidCount = accepted.bidCount();
         }
 
+        // 경매 상태 계산
+        String sellingStatus = calculateSellingStatusFromDbValue(live.getSellingStatus(), live.getEndTime(), live.getStartTime());
+
+        // 응답을 바꾸는 값이 모두 그대로면 여기서 끝 (이미지/DTO 조립 생략)
+        String etag = ConditionalGetSupport.etag(auctionId, currentPrice, bidCount, sellingStatus,
+                live.getStartTime(), live.getEndTime(), live.getWishCount(), liked, live.getSellerUpdatedAt());
+        if (notModified.test(etag)) {
+            return null;
+        }
+
+        if (part == null) {
+            part = loadStaticPart(detail);
+            auctionDetailCache.put(auctionId, part);
+        }
+
+        return AuctionFindDto.builder()
+                .auctionId(part.auctionId())
+                .title(part.title())
+                .description(part.description())
+                .currentPrice(currentPrice)
+                .minBidPrice(part.minBidPrice())
+                .bidCount(bidCount)
+                .startTime(live.getStartTime())
+                .createdAt(part.createdAt())
+                .endTime(live.getEndTime())
+                .categoryId(part.categoryId())
+                .categoryMain(part.categoryMain())
+                .categorySub(part.categorySub())
+                .sellerId(part.sellerId())
+                .sellerNickname(part.sellerNickname())
+                .sellerProfileImageUrl(part.sellerProfileImageUrl())
+                .images(part.images())
+                .sellingStatus(sellingStatus)
+                .wishCount(live.getWishCount())
+                .liked(liked)
+                .sellerTemperature(part.sellerTemperature())
+                .build();
+    }
+
+    private AuctionDetailCache.StaticPart loadStaticPart(AuctionDetailProjection proj) {
         // 이미지
-        List<ImageDto> imageDtos = imageRepository.findAllByAuctionProduct_AuctionId(auctionId)
+        List<ImageDto> imageDtos = imageRepository.findAllByAuctionProduct_AuctionId(proj.getAuctionId())
                 .stream()
                 .map(imageEntity -> ImageDto.builder()
                         .imageUrl(imageEntity.getImageUrl())
@@ -219,52 +484,26 @@ public class AuctionProductsService {
                         .build())
                 .collect(Collectors.toList());
 
-        // 경매 상태 계산
-        String sellingStatus = calculateSellingStatusFromDbValue(proj.getSellingStatus(), proj.getEndTime(), proj.getStartTime());
-
-        // 찜 개수 조회
-        Integer wishCount = (int) wishlistRepository.countByAuction_AuctionId(auctionId);
-
-        // 카테고리
-        CategoryEntity subCategoryEntity = categoryRepository.findById(proj.getCategoryId()).orElse(null);
-        CategoryEntity mainCategoryEntity = (subCategoryEntity != null) ? subCategoryEntity.getParent() : null;
+        // 카테고리 (트리 스냅샷에서 이름 조회)
+        CategoryTreeCache.Snapshot categories = categoryTreeCache.snapshot();
+        CategoryDto subCategoryDto = categories.find(proj.getCategoryId()).orElse(null);
+        CategoryDto mainCategoryDto = (subCategoryDto != null) ? categories.find(subCategoryDto.getParentId()).orElse(null) : null;
         String mainCategory = "";
-        String subCategory = (subCategoryEntity != null) ? subCategoryEntity.getCategoryName() : null;
-        if (mainCategoryEntity != null) {
-            mainCategory = mainCategoryEntity.getCategoryName();
-        } else if (subCategoryEntity != null) {
-            mainCategory = subCategoryEntity.getCategoryName();
+        String subCategory = (subCategoryDto != null) ? subCategoryDto.getCategoryName() : null;
+        if (mainCategoryDto != null) {
+            mainCategory = mainCategoryDto.getCategoryName();
+        } else if (subCategoryDto != null) {
+            mainCategory = subCategoryDto.getCategoryName();
             subCategory = null;
         }
 
         // 판매자 정보(없을 수 있음!)
-        Long sellerId = proj.getSellerId();
         String sellerNickname = (proj.getSellerNickname() != null) ? proj.getSellerNickname() : "탈퇴회원";
-        String sellerProfileImageUrl = proj.getSellerProfileImageUrl();
-        Double sellerTemperature = proj.getSellerTemperature();
 
-        return AuctionFindDto.builder()
-                .auctionId(proj.getAuctionId())
-                .title(proj.getTitle())
-                .description(proj.getDescription())
-                .currentPrice(proj.getCurrentPrice())
-                .minBidPrice(proj.getMinBidPrice())
-                .bidCount(proj.getBidCount())
-                .startTime(proj.getStartTime())
-                .createdAt(proj.getCreatedAt())
-                .endTime(proj.getEndTime())
-                .categoryId(proj.getCategoryId())
-                .categoryMain(mainCategory)
-                .categorySub(subCategory)
-                .sellerId(sellerId)
-                .sellerNickname(sellerNickname)
-                .sellerProfileImageUrl(sellerProfileImageUrl)
-                .images(imageDtos)
-                .sellingStatus(sellingStatus)
-                .wishCount(wishCount)
-                .liked(liked)
-                .sellerTemperature(sellerTemperature)
-                .build();
+        return new AuctionDetailCache.StaticPart(proj.getAuctionId(), proj.getTitle(), proj.getDescription(),
+                proj.getMinBidPrice(), proj.getCreatedAt(), proj.getCategoryId(), mainCategory, subCategory,
+                proj.getSellerId(), sellerNickname, proj.getSellerProfileImageUrl(), proj.getSellerTemperature(),
+                proj.getSellerUpdatedAt(), Collections.unmodifiableList(imageDtos));
     }
 
     // 삭제
@@ -282,6 +521,12 @@ public class AuctionProductsService {
         products.setDeletedAt(LocalDateTime.now());
 
         auctionProductsRepository.save(products);
+        auctionBidSequencer.invalidate(auctionId);
+        auctionClosingTimer.cancel(auctionId);
+        auctionTitleIndex.remove(auctionId);
+        auctionDetailCache.evict(auctionId);
+        auctionFeed.remove(auctionId);
+        auctionListCache.invalidateAll();
     }
 
     // 관리자용 삭제
@@ -292,12 +537,28 @@ public class AuctionProductsService {
 
         products.setDeletedAt(LocalDateTime.now());
         auctionProductsRepository.save(products);
+        auctionBidSequencer.invalidate(auctionId);
+        auctionClosingTimer.cancel(auctionId);
+        auctionTitleIndex.remove(auctionId);
+        auctionDetailCache.evict(auctionId);
+        auctionFeed.remove(auctionId);
+        auctionListCache.invalidateAll();
 
         log.info("관리자에 의해 경매 삭제: auctionId={}, title={}", auctionId, products.getTitle());
     }
 
 
     // 경매 상태 리스트 결정 메서드
+    // 트랜잭션 시작부터 커밋/롤백까지의 시간 기록
+    private void recordTransactionTime(String metricName, long startedAt) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                meterRegistry.timer(metricName).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
     private List<SellingStatus> getFilterStatuses(Boolean includeEnded) {
         if (Boolean.TRUE.equals(includeEnded)) {
             // 종료, 완료된 상품까지 모두 포함
@@ -319,7 +580,7 @@ public class AuctionProductsService {
     }
 
     // DB selling_status 문자열과 시간 필드를 바탕으로 기존 라벨 계산과 일치시키기 위한 보조
-    private String calculateSellingStatusFromDbValue(String sellingStatusDb, java.time.LocalDateTime endTime, java.time.LocalDateTime startTime) {
+    public String calculateSellingStatusFromDbValue(String sellingStatusDb, java.time.LocalDateTime endTime, java.time.LocalDateTime startTime) {
         if (sellingStatusDb == null) return "진행중";
 
         switch (sellingStatusDb) {
@@ -350,10 +611,7 @@ public class AuctionProductsService {
         String mainImageUrl = imageRepository.findFirstImageUrlByAuctionId(product.getAuctionId())
                 .orElse("default_product.png");
 
-        boolean liked = false;
-        if (userId != null) {
-            liked = wishlistRepository.existsByUser_UserIdAndAuction_AuctionId(userId, product.getAuctionId());
-        }
+        boolean liked = likedAuctionCache.isLiked(userId, product.getAuctionId());
 
         return AuctionListResponseDto.builder()
                 .auctionId(product.getAuctionId())
@@ -102,6 +102,7 @@ public class AuctionResultService {
     }
 
     // 마이페이지 - 판매 내역(필터 적용)
+    @Transactional(readOnly = true)
     public List<AuctionSalesHistoryDto> getSalesHistory(Long userId, TradeFilterStatus filterStatus) {
         Set<AuctionSalesHistoryDto> salesHistorySet = new HashSet<>();
 
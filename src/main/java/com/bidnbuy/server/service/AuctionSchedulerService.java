@@ -2,20 +2,39 @@ package com.bidnbuy.server.service;
 
 import com.bidnbuy.server.dto.ChatRoomCreateRequestDto;
 import com.bidnbuy.server.entity.*;
-import com.bidnbuy.server.enums.AuctionStatus;
-import com.bidnbuy.server.enums.NotificationType;
 import com.bidnbuy.server.enums.ResultStatus;
 import com.bidnbuy.server.enums.SellingStatus;
+import com.bidnbuy.server.event.AuctionClosedEvent;
+import com.bidnbuy.server.event.SchedulerPartitionsAssignedEvent;
 import com.bidnbuy.server.repository.*;
+import com.bidnbuy.server.util.ScheduledJobMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @Slf4j
@@ -24,36 +43,203 @@ public class AuctionSchedulerService {
     private final AuctionProductsRepository auctionProductsRepository;
     private final AuctionBidRepository auctionBidsRepository;
     private final AuctionResultRepository auctionResultRepository;
-    private final AuctionHistoryService auctionHistoryService;
-    private final UserNotificationService notificationService;
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AuctionHistoryRepository auctionHistoryRepository;
+    private final AuctionBidJournal auctionBidJournal;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ScheduledJobMonitor scheduledJobMonitor;
 
-    // 마감 시간이 된 경매를 처리하는 주요 스케줄러
-    @Scheduled(fixedRate = 10000)
-    @Transactional
+    // 이미 종료 처리된 상태 (마감 대상에서 제외)
+    private static final List<SellingStatus> CLOSED_STATUSES = List.of(SellingStatus.FINISH, SellingStatus.COMPLETED);
+
+    // 마감 워커 수 (경매마다 짧은 트랜잭션 하나씩, 동시에 최대 workers 개)
+    @Value("${auction.closing.workers:8}")
+    private int closingWorkerCount;
+
+    // 스윕에서 한 번에 읽는 마감 대상 ID 수 (auction_id 기준 keyset)
+    @Value("${auction.closing.chunk-size:500}")
+    private int closingChunkSize;
+
+    @Value("${auction.closing.sweep-interval-ms:300000}")
+    private long sweepIntervalMillis;
+
+    private ExecutorService closingWorkers;
+    // 파티션 인수 스윕 전용 (스윕이 closingWorkers 작업을 join 하므로 같은 풀에 넣지 않는다)
+    private ExecutorService failoverSweeper;
+    // 아직 시작 전인 인수 스윕이 있으면 새 이벤트는 그 스윕에 합친다
+    private final AtomicBoolean failoverSweepQueued = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        closingWorkers = Executors.newFixedThreadPool(closingWorkerCount, new CustomizableThreadFactory("auction-closing-"));
+        failoverSweeper = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("auction-failover-sweep-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        failoverSweeper.shutdown();
+        closingWorkers.shutdown();
+    }
+
+    // 마감 안전망 스윕: 평소 마감은 AuctionClosingTimer가 처리하고, 놓친 경매만 주기적으로 정리
+    @Scheduled(fixedDelayString = "${auction.closing.sweep-interval-ms:300000}", scheduler = "auctionClosingScheduler")
     public void closeFinishedAuctions() {
-        List<AuctionProductsEntity> finishedAuctions = auctionProductsRepository.findByEndTimeBeforeAndSellingStatusNot(
-                LocalDateTime.now(),
-                SellingStatus.FINISH
-        );
+        scheduledJobMonitor.run("auction-closing-sweep", Duration.ofMillis(sweepIntervalMillis), this::sweepExpiredAuctions);
+    }
+
+    // 마감 시간이 지난 경매를 keyset 묶음으로 읽어 마감. 결과는 마감한 경매 수
+    private int sweepExpiredAuctions() {
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.nanoTime();
+        long lastAuctionId = 0L;
+        int scanned = 0;
+        int closed = 0;
+
+        while (true) {
+            List<Long> auctionIds = auctionProductsRepository.findExpiredOpenAuctionIdsAfter(
+                    now, lastAuctionId, CLOSED_STATUSES, PageRequest.of(0, closingChunkSize));
+            if (auctionIds.isEmpty()) {
+                break;
+            }
+
+            // 이 노드가 맡은 파티션의 경매만 마감
+            List<Long> ownedIds = auctionIds.stream().filter(schedulerLeaseService::ownsAuction).toList();
+            scanned += ownedIds.size();
+            if (!ownedIds.isEmpty()) {
+                closed += closeExpiredAuctions(ownedIds).join();
+            }
+            lastAuctionId = auctionIds.get(auctionIds.size() - 1);
+            if (auctionIds.size() < closingChunkSize) {
+                break;
+            }
+        }
+
+        if (scanned == 0) {
+            return 0;
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("마감 스윕 완료: 대상 {}건, 마감 {}건, {}초 ({}건/초)",
+                scanned, closed, String.format("%.2f", seconds), String.format("%.1f", closed / Math.max(seconds, 0.001)));
+        return closed;
+    }
 
-        if (finishedAuctions.isEmpty()) {
+    // 다른 노드가 맡던 파티션을 넘겨받으면 밀린 마감 대상을 바로 정리
+    // heartbeat 스레드에서 발행되므로 스윕은 별도 스레드로 넘기고 바로 돌아간다
+    @EventListener
+    public void onPartitionsAssigned(SchedulerPartitionsAssignedEvent event) {
+        if (!failoverSweepQueued.compareAndSet(false, true)) {
+            log.info("넘겨받은 경매 파티션 {}개: 대기 중인 마감 스윕에 합침", event.gainedPartitions().size());
             return;
         }
+        log.info("넘겨받은 경매 파티션 {}개 마감 스윕 예약", event.gainedPartitions().size());
+        try {
+            failoverSweeper.execute(() -> {
+                failoverSweepQueued.set(false);
+                try {
+                    closeFinishedAuctions();
+                } catch (RuntimeException e) {
+                    log.error("❌ 파티션 인수 마감 스윕 실패 (다음 정기 스윕에서 재시도): {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            failoverSweepQueued.set(false);
+            log.warn("종료 중이라 파티션 인수 마감 스윕을 건너뜀");
+        }
+    }
+
+    // 마감 대상 묶음 처리: 입찰 없는 경매는 한 번에 유찰 처리하고, 입찰이 있는 경매만 경매별로 마감
+    // 결과는 실제로 마감한 경매 수
+    public CompletableFuture<Integer> closeExpiredAuctions(List<Long> auctionIds) {
+        // 저널에 DB 미반영 입찰이 남은 경매는 유찰로 오판하지 않도록 이번 묶음에서 제외
+        List<Long> candidates = auctionIds.stream()
+                .filter(auctionId -> !auctionBidJournal.hasUnflushed(auctionId))
+                .toList();
+        if (candidates.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        return CompletableFuture.supplyAsync(() -> closeWithoutBids(candidates), closingWorkers)
+                .exceptionally(e -> {
+                    log.error("❌ 유찰 일괄 마감 실패, 경매별 마감으로 처리: {}건 - {}", candidates.size(), e.getMessage(), e);
+                    return List.of();
+                })
+                .thenCompose(bulkClosed -> {
+                    Set<Long> bulkClosedIds = new HashSet<>(bulkClosed);
+                    List<CompletableFuture<Boolean>> results = candidates.stream()
+                            .filter(auctionId -> !bulkClosedIds.contains(auctionId))
+                            .map(this::submitClose)
+                            .toList();
+                    return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                            .thenApply(v -> bulkClosed.size()
+                                    + (int) results.stream().filter(CompletableFuture::join).count());
+                });
+    }
 
-        log.info("마감 시간이 된 경매 상품 수: {}", finishedAuctions.size());
+    // 입찰 없는 마감 대상을 한 트랜잭션에서 FINISH로 바꾸고 이력/유찰 결과를 한 번에 기록
+    private List<Long> closeWithoutBids(List<Long> auctionIds) {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> closed = transactionTemplate.execute(status -> {
+            List<Long> noBidIds = auctionProductsRepository.lockExpiredAuctionIdsWithoutBids(auctionIds, now);
+            if (noBidIds.isEmpty()) {
+                return List.<Long>of();
+            }
+            auctionProductsRepository.finishAuctions(noBidIds);
+            auctionHistoryRepository.insertFinishedHistories(noBidIds, now);
+            auctionResultRepository.insertResults(noBidIds, ResultStatus.FAILURE.ordinal(), now);
+            return noBidIds;
+        });
+        if (closed == null || closed.isEmpty()) {
+            return List.of();
+        }
+
+        closed.forEach(auctionBidSequencer::invalidate);
+        meterRegistry.timer("auction.closing.bulk.latency").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("auction.closing.closed", "path", "bulk").increment(closed.size());
+        log.info("유찰 일괄 마감: {}건", closed.size());
+        return closed;
+    }
 
-        for (AuctionProductsEntity auction : finishedAuctions) {
+    // 마감 워커 풀에 경매 하나의 마감을 맡긴다. 결과는 실제로 마감했는지 여부 (실패 시 false)
+    public CompletableFuture<Boolean> submitClose(Long auctionId) {
+        return CompletableFuture.supplyAsync(() -> {
             // 11/10 기존 코드에서 try=catch 추가
             try {
-                processAuctionClosing((auction));
-            }catch (Exception e) {
-                log.error("❌ 경매 마감 처리 중 예외 발생: Auction ID {} - {}", auction.getAuctionId(), e.getMessage(), e);
+                return closeAuction(auctionId);
+            } catch (Exception e) {
+                log.error("❌ 경매 마감 처리 중 예외 발생: Auction ID {} - {}", auctionId, e.getMessage(), e);
+                return false;
             }
+        }, closingWorkers);
+    }
+
+    // 경매 하나를 자체 트랜잭션으로 마감 (타이머/스윕이 동시에 호출해도 행 잠금으로 한 번만 처리)
+    public boolean closeAuction(Long auctionId) {
+        long startedAt = System.nanoTime();
+        Boolean closed = transactionTemplate.execute(status -> {
+            AuctionProductsEntity auction = auctionProductsRepository.findByIdWithLock(auctionId).orElse(null);
+            if (auction == null
+                    || auction.getDeletedAt() != null
+                    || CLOSED_STATUSES.contains(auction.getSellingStatus())
+                    || auction.getEndTime().isAfter(LocalDateTime.now())) {
+                return false;
+            }
+            processAuctionClosing(auction);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(closed)) {
+            meterRegistry.timer("auction.closing.latency").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("auction.closing.closed", "path", "single").increment();
+            return true;
         }
+        return false;
     }
 
     // 개별 경매 마감
-    @Transactional
     private void processAuctionClosing(AuctionProductsEntity auction) {
         Optional<AuctionBidsEntity> topBidOpt =
                 auctionBidsRepository.findTopByAuction_AuctionIdOrderByBidPriceDescBidTimeDesc(auction.getAuctionId());
@@ -61,7 +247,6 @@ public class AuctionSchedulerService {
         ResultStatus resultStatus;
         Integer finalPrice;
         AuctionBidsEntity finalBid = null;
-        OrderEntity orderEntity = null;
 
         if (topBidOpt.isPresent()) {
             // ️ 낙찰 (SUCCESS)
@@ -69,27 +254,6 @@ public class AuctionSchedulerService {
             resultStatus = ResultStatus.SUCCESS_PENDING_PAYMENT;
             finalPrice = finalBid.getBidPrice();
             log.info("경매 낙찰 성공: 상품 ID {}, 낙찰가 {}원", auction.getAuctionId(), finalPrice);
-
-            orderEntity = new OrderEntity();
-            orderEntity.setSeller(auction.getUser());
-            orderEntity.setBuyer(finalBid.getUser());
-            orderEntity.setType("AUCTION");
-            orderEntity.setOrderStatus("WAITING_PAYMENT");
-            orderEntity.setRating(0);
-            orderEntity.setCreatedAt(LocalDateTime.now());
-            orderEntity.setUpdatedAt(LocalDateTime.now());
-
-            // 시간지나서 자동 낙찰자 알림 발송
-            String winnerContent = "경매 종료! 최고 입찰자에게 낙찰 🎉 지금 채팅방으로 이동하기";
-            notificationService.createNotification(finalBid.getUser().getUserId(), NotificationType.NOTICE, winnerContent);
-            log.info("낙찰자 알림 발송 완료 userId={}", finalBid.getUser().getUserId());
-
-            // 판매자 알림
-            String sellerContent = "경매 종료! 귀하의 상품이 낙찰되었습니다. 채팅방에서 거래를 이어가세요.";
-            notificationService.createNotification(auction.getUser().getUserId(), NotificationType.NOTICE, sellerContent);
-            log.info("판매자 알림 발송 완료 userId={}", auction.getUser().getUserId());
-
-            //  orderEntity = orderRepository.save(orderEntity);
         } else {
             //  유찰 (FAILURE)
             resultStatus = ResultStatus.FAILURE;
@@ -97,28 +261,32 @@ public class AuctionSchedulerService {
             log.info("경매 유찰: 상품 ID {}", auction.getAuctionId());
         }
 
-        // 1. AuctionResultEntity 생성 및 저장
-        AuctionResultEntity result = AuctionResultEntity.builder()
-                .auction(auction)
-                .winner(finalBid != null ? finalBid.getUser() : null)
-                .resultStatus(resultStatus)
-                .finalPrice(finalPrice)
-                // history_id는 DB 스키마에서 nullable=true여야 합니다.
-                .history(finalBid != null ? finalBid.getHistory() : null)
-                .order(orderEntity)
-                .closedAt(LocalDateTime.now())
-                .build();
-
-        // AuctionResultEntity savedResult = auctionResultRepository.save(result);
+        // 1. AuctionResultEntity 생성 및 저장 (일괄 유찰 경로와 같이 경매마다 한 건, 주문은 OrderService.createOrder 가 이 행에 연결)
+        if (auctionResultRepository.findFirstByAuction_AuctionId(auction.getAuctionId()).isEmpty()) {
+            AuctionResultEntity result = AuctionResultEntity.builder()
+                    .auction(auction)
+                    .winner(finalBid != null ? finalBid.getUser() : null)
+                    .resultStatus(resultStatus)
+                    .finalPrice(finalPrice)
+                    // history_id는 DB 스키마에서 nullable=true여야 합니다.
+                    .history(finalBid != null ? finalBid.getHistory() : null)
+                    .closedAt(LocalDateTime.now())
+                    .build();
+            auctionResultRepository.save(result);
+        }
 
         // 2. AuctionProductsEntity 상태 FINISH로 업데이트
         auction.setSellingStatus(SellingStatus.FINISH);
+        auctionBidSequencer.invalidate(auction.getAuctionId());
 
-        //History 기록 (AuctionHistoryService의 독립 트랜잭션을 통해 안전하게 저장)
-        auctionHistoryService.recordStatusChange(
+        // History 기록과 낙찰자/판매자 알림은 커밋 이후 이벤트 리스너에서 처리
+        eventPublisher.publishEvent(new AuctionClosedEvent(
                 auction.getAuctionId(),
-                AuctionStatus.FINISHED
-        );
+                auction.getUser().getUserId(),
+                finalBid != null ? finalBid.getUser().getUserId() : null,
+                finalPrice,
+                resultStatus
+        ));
 
         // ❌ Builder를 이용한 중복 History 기록 로직과 헬퍼 메서드는 제거되었습니다.
 
@@ -169,22 +337,24 @@ public class AuctionSchedulerService {
 //
 //        log.info("💰 결제 완료로 인한 경매 강제 종료 처리 완료: 경매 ID {}", auction.getAuctionId());
 
-        // ⭐ 무조건 새 Result 생성
-        AuctionResultEntity result1 = AuctionResultEntity.builder()
-                .auction(auction)
-                .winner(order.getBuyer())
-                .order(order)
-                .finalPrice(auction.getCurrentPrice())
-                .resultStatus(ResultStatus.SUCCESS_PAID)
-                .closedAt(LocalDateTime.now())
-                .build();
-
-        auctionResultRepository.save(result1);
+        // 경매당 결과 행은 하나: 주문에 연결된 결과를 결제 완료로 갱신
+        result.setWinner(order.getBuyer());
+        result.setFinalPrice(auction.getCurrentPrice());
+        result.setResultStatus(ResultStatus.SUCCESS_PAID);
+        result.setClosedAt(LocalDateTime.now());
+        auctionResultRepository.save(result);
 
         auction.setSellingStatus(SellingStatus.FINISH);
         auctionProductsRepository.save(auction);
+        auctionBidSequencer.invalidate(auction.getAuctionId());
 
-        auctionHistoryService.recordStatusChange(auction.getAuctionId(), AuctionStatus.FINISHED);
+        eventPublisher.publishEvent(new AuctionClosedEvent(
+                auction.getAuctionId(),
+                auction.getUser().getUserId(),
+                order.getBuyer() != null ? order.getBuyer().getUserId() : null,
+                auction.getCurrentPrice(),
+                ResultStatus.SUCCESS_PAID
+        ));
 
     }
 }
\ No newline at end of file
@@ -0,0 +1,332 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import com.bidnbuy.server.repository.projection.AuctionTitleProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 경매 제목 검색용 메모리 n-gram 역색인
+ * - 소문자로 바꾼 제목을 음절(문자) 단위 1-gram / 2-gram 으로 쪼개 gram -> 경매 ID 목록을 둔다.
+ * - ID 목록은 오름차순 차이값을 varint 로 압축해 보관한다. (ID 가 증가하므로 등록은 대부분 끝에 붙이기)
+ * - 검색어의 gram 목록을 교집합한 뒤 제목에 검색어가 실제로 포함되는지 확인하므로 LIKE '%검색어%' 와 같은 결과를 낸다.
+ * - 기동 적재가 끝나기 전이나 후보가 maxCandidates 를 넘으면 Optional.empty() 를 돌려주고 호출 측은 LIKE 검색을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionTitleIndex {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final AuctionProductsRepository auctionProductsRepository;
+
+    @Value("${auction.search.index.enabled:true}")
+    private boolean enabled;
+
+    // 검색 한 번에 돌려줄 최대 후보 수 (넘으면 잘라내지 않고 LIKE 검색으로 넘긴다)
+    @Value("${auction.search.max-candidates:2000}")
+    private int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> titles = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private volatile boolean ready;
+    private LocalDateTime lastRefreshedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        long afterId = 0L;
+        while (true) {
+            List<AuctionTitleProjection> batch =
+                    auctionProductsRepository.findTitlesAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (AuctionTitleProjection row : batch) {
+                    addLocked(row.getAuctionId(), row.getTitle());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            afterId = batch.get(batch.size() - 1).getAuctionId();
+        }
+        lastRefreshedAt = loadStartedAt;
+        ready = true;
+        log.info("경매 제목 색인 적재 완료: 경매 {}건, gram {}개, {}ms",
+                titles.size(), postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 다른 노드에서 등록된 경매도 검색되도록 최근 등록분을 주기적으로 다시 읽는다
+    @Scheduled(fixedDelayString = "${auction.search.index.refresh-ms:10000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime since = lastRefreshedAt.minusSeconds(10);
+        lastRefreshedAt = LocalDateTime.now();
+        for (AuctionTitleProjection row : auctionProductsRepository.findTitlesCreatedAfter(since)) {
+            add(row.getAuctionId(), row.getTitle());
+        }
+    }
+
+    public void add(Long auctionId, String title) {
+        if (!enabled || auctionId == null || title == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            addLocked(auctionId, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long auctionId) {
+        if (!enabled || auctionId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            String title = titles.remove(auctionId);
+            if (title == null) {
+                return;
+            }
+            for (String gram : grams(title)) {
+                PostingList list = postings.get(gram);
+                if (list != null && list.remove(auctionId) && list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 검색어가 제목에 포함된 경매 ID 전체 (관련도 순, 관련도 정렬 쿼리가 이 순서를 그대로 쓴다)
+     * 관련도: 검색어가 앞에 나올수록 > 제목이 짧을수록 > 최근 등록일수록
+     * 후보를 잘라내면 나머지 조건을 DB 에서 거른 페이지와 전체 건수가 틀어지므로, 너무 많으면 색인을 쓰지 않는다
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready || keyword == null) {
+            return Optional.empty();
+        }
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Candidate> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (String gram : query.length() == 1 ? List.of(query) : grams(query)) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            long[] ids = lists.get(0).decode();
+            for (int i = 1; i < lists.size() && ids.length > 0; i++) {
+                ids = lists.get(i).retainAll(ids);
+            }
+            for (long id : ids) {
+                String title = titles.get(id);
+                int position = title != null ? title.indexOf(query) : -1;
+                if (position >= 0) {
+                    if (matched.size() >= maxCandidates) {
+                        return Optional.empty();
+                    }
+                    matched.add(new Candidate(id, position, title.length()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(Comparator.comparingInt(Candidate::position)
+                .thenComparingInt(Candidate::length)
+                .thenComparing(Comparator.comparingLong(Candidate::auctionId).reversed()));
+        return Optional.of(matched.stream()
+                .map(Candidate::auctionId)
+                .toList());
+    }
+
+    private void addLocked(Long auctionId, String title) {
+        String normalized = normalize(title);
+        String previous = titles.put(auctionId, normalized);
+        if (normalized.equals(previous)) {
+            return;
+        }
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(auctionId);
+        }
+    }
+
+    // MySQL 기본 collation 처럼 대소문자를 구분하지 않는다
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // 음절 1-gram(한 글자 검색용) + 2-gram
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private record Candidate(long auctionId, int position, int length) {
+    }
+
+    // 오름차순 경매 ID 목록 (이전 ID 와의 차이를 varint 로 인코딩)
+    private static final class PostingList {
+        private byte[] data = new byte[8];
+        private int length;
+        private int size;
+        private long lastId;
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long id) {
+            if (id > lastId) {
+                writeVarint(id - lastId);
+                lastId = id;
+                size++;
+                return;
+            }
+            long[] ids = decode();
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            long[] merged = new long[ids.length + 1];
+            System.arraycopy(ids, 0, merged, 0, insertAt);
+            merged[insertAt] = id;
+            System.arraycopy(ids, insertAt, merged, insertAt + 1, ids.length - insertAt);
+            rebuild(merged, merged.length);
+        }
+
+        boolean remove(long id) {
+            long[] ids = decode();
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, ids.length - index - 1);
+            rebuild(ids, ids.length - 1);
+            return true;
+        }
+
+        long[] decode() {
+            long[] ids = new long[size];
+            long id = 0;
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[offset++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                id += delta;
+                ids[i] = id;
+            }
+            return ids;
+        }
+
+        // 오름차순 ids 중 이 목록에도 있는 ID 만 남긴다 (압축을 풀면서 병합)
+        long[] retainAll(long[] ids) {
+            long[] retained = new long[Math.min(ids.length, size)];
+            int count = 0;
+            int cursor = 0;
+            long id = 0;
+            int offset = 0;
+            for (int i = 0; i < size && cursor < ids.length; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[offset++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                id += delta;
+                while (cursor < ids.length && ids[cursor] < id) {
+                    cursor++;
+                }
+                if (cursor < ids.length && ids[cursor] == id) {
+                    retained[count++] = id;
+                    cursor++;
+                }
+            }
+            return Arrays.copyOf(retained, count);
+        }
+
+        private void rebuild(long[] ids, int count) {
+            data = new byte[Math.max(8, count * 2)];
+            length = 0;
+            size = 0;
+            lastId = 0;
+            for (int i = 0; i < count; i++) {
+                writeVarint(ids[i] - lastId);
+                lastId = ids[i];
+                size++;
+            }
+        }
+
+        private void writeVarint(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+            }
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
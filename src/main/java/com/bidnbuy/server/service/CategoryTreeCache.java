@@ -0,0 +1,149 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.dto.CategoryDto;
+import com.bidnbuy.server.repository.CategoryRepository;
+import com.bidnbuy.server.repository.projection.CategoryNodeProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 카테고리 트리 스냅샷
+ * - 카테고리는 거의 바뀌지 않으므로 전체를 한 번 읽어 불변 트리로 들고 있고, 조회는 DB를 거치지 않는다.
+ * - 주기적으로 다시 읽어 내용(ETag)이 달라졌을 때만 새 스냅샷으로 교체한다.
+ * - 반환하는 CategoryDto 는 스냅샷이 공유하는 객체이므로 수정하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    // 변경 감지 (바뀌었으면 교체)
+    @Scheduled(fixedDelayString = "${category.cache.refresh-ms:300000}")
+    public void refresh() {
+        if (snapshot == null) {
+            return;
+        }
+        Snapshot reloaded = load();
+        if (!reloaded.etag().equals(snapshot.etag())) {
+            snapshot = reloaded;
+            log.info("카테고리 트리 스냅샷 교체: 카테고리 {}건, etag={}", reloaded.byId.size(), reloaded.etag());
+        }
+    }
+
+    private Snapshot load() {
+        List<CategoryNodeProjection> nodes = categoryRepository.findAllNodes();
+
+        Map<Long, List<CategoryNodeProjection>> childrenByParent = new HashMap<>();
+        List<CategoryNodeProjection> roots = new ArrayList<>();
+        StringBuilder signature = new StringBuilder();
+        for (CategoryNodeProjection node : nodes) {
+            if (node.getParentId() == null) {
+                roots.add(node);
+            } else {
+                childrenByParent.computeIfAbsent(node.getParentId(), key -> new ArrayList<>()).add(node);
+            }
+            signature.append(node.getCategoryId()).append(':')
+                    .append(node.getParentId()).append(':')
+                    .append(node.getCategoryName()).append('\n');
+        }
+
+        Map<Long, CategoryDto> byId = new HashMap<>();
+        Map<Long, List<Long>> subtreeIds = new HashMap<>();
+        List<CategoryDto> top = new ArrayList<>();
+        for (CategoryNodeProjection root : roots) {
+            top.add(build(root, childrenByParent, byId, subtreeIds));
+        }
+        return new Snapshot(byId, Collections.unmodifiableList(top), subtreeIds, etag(signature.toString()));
+    }
+
+    private CategoryDto build(CategoryNodeProjection node, Map<Long, List<CategoryNodeProjection>> childrenByParent,
+                              Map<Long, CategoryDto> byId, Map<Long, List<Long>> subtreeIds) {
+        List<CategoryDto> children = new ArrayList<>();
+        List<Long> subtree = new ArrayList<>();
+        subtree.add(node.getCategoryId());
+        for (CategoryNodeProjection child : childrenByParent.getOrDefault(node.getCategoryId(), List.of())) {
+            children.add(build(child, childrenByParent, byId, subtreeIds));
+            subtree.addAll(subtreeIds.get(child.getCategoryId()));
+        }
+        CategoryDto dto = CategoryDto.builder()
+                .categoryId(node.getCategoryId())
+                .categoryName(node.getCategoryName())
+                .parentId(node.getParentId())
+                .children(Collections.unmodifiableList(children))
+                .build();
+        byId.put(node.getCategoryId(), dto);
+        subtreeIds.put(node.getCategoryId(), Collections.unmodifiableList(subtree));
+        return dto;
+    }
+
+    private static String etag(String signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(signature.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class Snapshot {
+        private final Map<Long, CategoryDto> byId;
+        private final List<CategoryDto> top;
+        private final Map<Long, List<Long>> subtreeIds;
+        private final String etag;
+
+        private Snapshot(Map<Long, CategoryDto> byId, List<CategoryDto> top,
+                         Map<Long, List<Long>> subtreeIds, String etag) {
+            this.byId = byId;
+            this.top = top;
+            this.subtreeIds = subtreeIds;
+            this.etag = etag;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public List<CategoryDto> topLevel() {
+            return top;
+        }
+
+        public Optional<CategoryDto> find(Long categoryId) {
+            return Optional.ofNullable(categoryId != null ? byId.get(categoryId) : null);
+        }
+
+        // 자기 자신 + 모든 하위 카테고리 ID (없는 ID 면 자기 자신만)
+        public List<Long> subtreeIds(Long categoryId) {
+            return subtreeIds.getOrDefault(categoryId, List.of(categoryId));
+        }
+    }
+}
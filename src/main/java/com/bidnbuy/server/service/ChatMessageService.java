@@ -3,9 +3,12 @@ package com.bidnbuy.server.service;
 import com.bidnbuy.server.dto.ChatMessageDto;
 import com.bidnbuy.server.dto.ChatMessageRequestDto;
 import com.bidnbuy.server.dto.ChatReadStatusUpdateDto;
+import com.bidnbuy.server.dto.CursorResponseDto;
 import com.bidnbuy.server.entity.ChatMessageEntity;
 import com.bidnbuy.server.entity.ChatRoomEntity;
 import com.bidnbuy.server.entity.UserEntity;
+import com.bidnbuy.server.enums.ErrorCode;
+import com.bidnbuy.server.exception.CustomException;
 import com.bidnbuy.server.repository.ChatMessageRepository;
 import com.bidnbuy.server.repository.ChatRoomRepository;
 import com.bidnbuy.server.repository.UserRepository;
@@ -13,6 +16,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.target.LazyInitTargetSource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.User;
@@ -20,6 +24,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -113,6 +119,54 @@ public class ChatMessageService {
             .collect(Collectors.toList());
     }
 
+    //채팅 메세지 조회 (커서)
+    // before/after 둘 다 없으면 최신 페이지, before 면 그 이전(위로 스크롤), after 면 그 이후(놓친 메시지)
+    // 응답은 항상 오래된 것 -> 최신 순, nextCursor 는 같은 방향으로 이어 읽을 chatmessage_id
+    @Transactional
+    public CursorResponseDto<ChatMessageDto> getMessagesByCursor(Long chatroomId, Long currentUserId,
+                                                                 Long before, Long after, int size){
+        if (size < 1 || size > 100 || (before != null && after != null)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        ChatRoomEntity chatRoom = chatRoomRepository.findById(chatroomId)
+                .orElseThrow(()-> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
+
+        if (!hasAccess(chatRoom, currentUserId)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+
+        // 이전 기록을 거슬러 읽을 때는 이미 읽음 처리된 상태
+        if (before == null) {
+            UserEntity currentUser = userRepository.findById(currentUserId).orElse(null);
+            if (currentUser != null) {
+                markMessagesAsRead(chatRoom, currentUser);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 읽는다
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<ChatMessageEntity> rows = after != null
+                ? chatMessageRepository.findPageAfter(chatroomId, after, limit)
+                : chatMessageRepository.findPageBefore(chatroomId, before != null ? before : Long.MAX_VALUE, limit);
+        boolean hasNext = rows.size() > size;
+        List<ChatMessageEntity> page = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = String.valueOf(page.get(page.size() - 1).getChatmessageId());
+        }
+        if (after == null) {
+            Collections.reverse(page);
+        }
+
+        return CursorResponseDto.<ChatMessageDto>builder()
+                .data(page.stream().map(this::convertToDto).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .build();
+    }
+
     //공통 권한 확인 로직  추가
     private boolean hasAccess(ChatRoomEntity chatRoom, Long userId) {
         Long buyerId = chatRoom.getBuyerId() != null ? chatRoom.getBuyerId().getUserId() : null;
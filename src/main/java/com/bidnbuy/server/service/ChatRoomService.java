@@ -16,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,7 +26,6 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserService userService;
     private final AuctionProductsService auctionProductsService;
-    private final ChatMessageService chatMessageService;
 
     //판매자 상품글에서 채팅방 생성
     public ChatRoomDto findOrCreateChatRoom(ChatRoomCreateRequestDto requestDto){
@@ -66,102 +64,25 @@ public class ChatRoomService {
                 .build();
     }
 
-    //채팅방 목록 조회
+    //채팅방 목록 조회 (방/상대방/경매/안 읽은 수를 쿼리 한 번으로)
     @Transactional(readOnly = true)
     public List<ChatRoomListDto> getChatRoomList (Long currentUserId){
-        UserEntity currentUser = userService.findById(currentUserId);
-        List<ChatRoomEntity> chatRooms = chatRoomRepository.findActiveRoomsByUserId(currentUser);
-
-        return chatRooms.stream()
-                .map(entity -> convertToChatRoomListDto(entity, currentUserId))
-                .map(this::processAuctionImage)
+        return chatRoomRepository.findRoomListByUserId(currentUserId).stream()
+                .map(row -> ChatRoomListDto.builder()
+                        .chatroomId(row.getChatroomId())
+                        .auctionId(row.getAuctionId())
+                        .counterpartId(row.getCounterpartId())
+                        .counterpartNickname(row.getCounterpartNickname())
+                        .counterpartProfileImageUrl(row.getCounterpartProfileImageUrl())
+                        .auctionTitle(row.getAuctionTitle())
+                        .auctionImageUrl(row.getAuctionImageUrl())
+                        .lastMessagePreview(row.getLastMessagePreview())
+                        .lastMessageTime(row.getLastMessageTime())
+                        .unreadCount(row.getUnreadCount().intValue())
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    private ChatRoomListDto  convertToChatRoomListDto(ChatRoomEntity chatRoom, Long currentUserId){
-        Long buyerUserIdSafe = null;
-        Long sellerUserIdSafe = null;
-        try {
-            buyerUserIdSafe = chatRoom.getBuyerId() != null ? chatRoom.getBuyerId().getUserId() : null;
-        } catch (Exception e) {
-            log.warn("buyer reference not available (possibly deleted): chatroomId={}", chatRoom.getChatroomId());
-        }
-        try {
-            sellerUserIdSafe = chatRoom.getSellerId() != null ? chatRoom.getSellerId().getUserId() : null;
-        } catch (Exception e) {
-            log.warn("seller reference not available (possibly deleted): chatroomId={}", chatRoom.getChatroomId());
-        }
-
-        boolean isCurrentUserBuyer = Objects.equals(buyerUserIdSafe, currentUserId);
-        UserEntity counterpartUser = isCurrentUserBuyer ? chatRoom.getSellerId():chatRoom.getBuyerId();
-        AuctionProductsEntity auctionProducts = chatRoom.getAuctionId();
-
-        Long unreadCount = chatMessageService.getUnreadMessageCount(chatRoom.getChatroomId(), currentUserId);
-
-        Long counterpartIdSafe = 0L;
-        String counterpartNicknameSafe = "탈퇴회원";
-        String counterpartProfileImageUrlSafe = null;
-        try {
-            if (counterpartUser == null || counterpartUser.isDeleted()) {
-                counterpartNicknameSafe = "탈퇴회원";
-                counterpartProfileImageUrlSafe = null;
-            }else{
-                counterpartIdSafe = counterpartUser.getUserId();
-                counterpartNicknameSafe = counterpartUser.getNickname();
-                counterpartProfileImageUrlSafe = counterpartUser.getProfileImageUrl();
-            }
-        } catch (Exception e) {
-            log.warn("counterpart user not available (possibly deleted): chatroomId={}", chatRoom.getChatroomId());
-        }
-
-        String auctionTitleSafe = null;
-        try {
-            auctionTitleSafe = auctionProducts != null ? auctionProducts.getTitle() : null;
-        } catch (Exception e) {
-            log.warn("auction reference not available (possibly deleted): chatroomId={}", chatRoom.getChatroomId());
-        }
-
-        return ChatRoomListDto.builder()
-                .chatroomId(chatRoom.getChatroomId())
-                .auctionId(auctionProducts != null ? auctionProducts.getAuctionId() : null)
-                .counterpartId(counterpartIdSafe)
-                .counterpartNickname(counterpartNicknameSafe)
-                .counterpartProfileImageUrl(counterpartProfileImageUrlSafe)
-                .auctionTitle(auctionTitleSafe)
-                .auctionImageUrl(null)
-                .lastMessagePreview(chatRoom.getLastMessagePreview())
-                .lastMessageTime(chatRoom.getLastMessageTime())
-                .unreadCount(unreadCount.intValue())
-                .build();
-    }
-
-
-    private ChatRoomListDto processAuctionImage(ChatRoomListDto dto){
-        Long auctionId = dto.getAuctionId();
-
-        try {
-            Optional<AuctionProductsEntity> optionalProduct = auctionProductsService.findByIdAnyway(auctionId);
-
-            if (optionalProduct.isPresent()) {
-                AuctionProductsEntity product = optionalProduct.get();
-
-                dto.setAuctionImageUrl(product.getMainImageUrl());
-                dto.setAuctionTitle(product.getTitle());
-
-            } else {
-                log.warn("경매 상품 정보 조회 중 상품을 찾을 수 없습니다. Auction ID: {}", auctionId);
-                dto.setAuctionTitle("삭제된 상품");
-                dto.setAuctionImageUrl(null);
-            }
-
-        } catch (Exception e) {
-            log.error("Auction ID {} 처리 중 치명적인 예외 발생: {}", auctionId, e.getMessage(), e);
-            dto.setAuctionTitle("오류 발생 상품");
-            dto.setAuctionImageUrl(null);
-        }
-        return dto;
-    }
-
     @Transactional
     public void deletedChatRoom(Long chatroomId, Long currentUserId){
         ChatRoomEntity chatRoom = chatRoomRepository.findById(chatroomId)
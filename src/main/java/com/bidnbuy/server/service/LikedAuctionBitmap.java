@@ -0,0 +1,191 @@
+package com.bidnbuy.server.service;
+
+import java.util.Arrays;
+
+/*
+ * 경매 ID 집합용 압축 비트맵 (Roaring 방식)
+ * - ID 를 상위 비트(key = id >>> 16)로 묶고, 묶음마다 하위 16비트를 컨테이너에 담는다.
+ * - 컨테이너는 4096개 이하면 정렬된 char 배열(건당 2바이트), 넘으면 65536비트 비트맵(8KB 고정)으로 바꾼다.
+ * - key 는 정렬된 배열로 들고 이진 탐색한다. 동기화는 호출하는 쪽 책임.
+ */
+final class LikedAuctionBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+    private int cardinality;
+
+    boolean contains(long id) {
+        int index = Arrays.binarySearch(keys, 0, size, id >>> 16);
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    void add(long id) {
+        long key = id >>> 16;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertAt(index, key, new ArrayContainer());
+        }
+        Container before = containers[index];
+        if (before.contains((char) id)) {
+            return;
+        }
+        containers[index] = before.add((char) id);
+        cardinality++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(keys, 0, size, id >>> 16);
+        if (index < 0 || !containers[index].contains((char) id)) {
+            return;
+        }
+        Container after = containers[index].remove((char) id);
+        cardinality--;
+        if (after.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = after;
+        }
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    // 대략적인 점유 바이트 (지표용)
+    long sizeInBytes() {
+        long bytes = 16L + keys.length * 8L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private void insertAt(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    // add/remove 는 형태가 바뀌면 새 컨테이너를 돌려준다
+    private interface Container {
+        boolean contains(char low);
+
+        Container add(char low);
+
+        Container remove(char low);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int count;
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, count, low) >= 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            if (count >= ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            int index = -Arrays.binarySearch(values, 0, count, low) - 1;
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.min(count * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, count - index);
+            values[index] = low;
+            count++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, count, low);
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            count--;
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return count;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < count; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[1024];
+        private int count;
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public Container add(char low) {
+            words[low >>> 6] |= 1L << low;
+            count++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            words[low >>> 6] &= ~(1L << low);
+            count--;
+            return count <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        public int cardinality() {
+            return count;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + words.length * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(count, 4)];
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.count++] = (char) (word * 64 + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
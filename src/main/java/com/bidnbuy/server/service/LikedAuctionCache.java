@@ -0,0 +1,161 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.repository.WishlistRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 사용자별 찜한 경매 ID 캐시 (목록/상세의 하트 표시용)
+ * - 처음 조회할 때 사용자의 찜 목록 ID 를 한 번 읽어 압축 비트맵(LikedAuctionBitmap)으로 들고, 이후 찜 여부는 메모리에서 답한다.
+ * - 이 노드의 찜 등록/취소는 커밋 이후 바로 반영, 다른 노드의 변경은 TTL(기본 30초)이 지나 다시 읽을 때 반영된다.
+ * - 사용자 수 기준 LRU 로 오래 조회하지 않은 사용자부터 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedAuctionCache {
+
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private final WishlistRepository wishlistRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.liked.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.liked.cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${auction.liked.cache.max-users:20000}")
+    private int maxUsers;
+
+    // 접근 순서 LRU (this 로 보호, 비트맵도 같은 잠금으로 읽고 쓴다)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 변경 순번: 읽는 도중 그 사용자의 찜이 바뀌었으면 그 결과는 저장하지 않는다 (다른 사용자의 변경과는 무관)
+    private final AtomicLong sequence = new AtomicLong();
+    // 사용자별 마지막 변경 순번 (this 로 보호, MAX_TRACKED_USERS 를 넘으면 비우고 그 전에 시작한 적재만 버린다)
+    private final Map<Long, Long> changedAt = new HashMap<>();
+    private long changesClearedAt;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = Counter.builder("auction.liked.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("auction.liked.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auction.liked.cache.users", this, cache -> cache.userCount()).register(meterRegistry);
+        Gauge.builder("auction.liked.cache.bytes", this, cache -> cache.bytes()).register(meterRegistry);
+    }
+
+    public boolean isLiked(Long userId, Long auctionId) {
+        if (userId == null || auctionId == null) {
+            return false;
+        }
+        if (!enabled) {
+            return wishlistRepository.existsByUser_UserIdAndAuction_AuctionId(userId, auctionId);
+        }
+        Entry entry = entry(userId);
+        synchronized (this) {
+            return entry.bitmap.contains(auctionId);
+        }
+    }
+
+    // auctionIds 중 찜한 것만
+    public Set<Long> likedAmong(Long userId, Collection<Long> auctionIds) {
+        if (userId == null || auctionIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!enabled) {
+            return new HashSet<>(wishlistRepository.findLikedAuctionIdsByUserIdAndAuctionIds(userId, List.copyOf(auctionIds)));
+        }
+        Entry entry = entry(userId);
+        Set<Long> liked = new HashSet<>();
+        synchronized (this) {
+            for (Long auctionId : auctionIds) {
+                if (auctionId != null && entry.bitmap.contains(auctionId)) {
+                    liked.add(auctionId);
+                }
+            }
+        }
+        return liked;
+    }
+
+    // 찜 등록/취소 커밋 이후 호출 (캐시에 없는 사용자는 다음 조회 때 새로 읽는다)
+    public void update(Long userId, Long auctionId, boolean liked) {
+        synchronized (this) {
+            long changed = sequence.incrementAndGet();
+            if (changedAt.size() >= MAX_TRACKED_USERS) {
+                changedAt.clear();
+                changesClearedAt = changed;
+            }
+            changedAt.put(userId, changed);
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return;
+            }
+            if (liked) {
+                entry.bitmap.add(auctionId);
+            } else {
+                entry.bitmap.remove(auctionId);
+            }
+        }
+    }
+
+    private Entry entry(Long userId) {
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return entry;
+            }
+        }
+        misses.increment();
+
+        long startedAt = sequence.get();
+        LikedAuctionBitmap bitmap = new LikedAuctionBitmap();
+        for (Long auctionId : wishlistRepository.findAuctionIdsByUserId(userId)) {
+            bitmap.add(auctionId);
+        }
+        Entry loaded = new Entry(bitmap, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            if (changesClearedAt <= startedAt && changedAt.getOrDefault(userId, 0L) <= startedAt) {
+                entries.put(userId, loaded);
+                var iterator = entries.entrySet().iterator();
+                while (entries.size() > maxUsers && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized int userCount() {
+        return entries.size();
+    }
+
+    private synchronized long bytes() {
+        long total = 0;
+        for (Entry entry : entries.values()) {
+            total += entry.bitmap.sizeInBytes();
+        }
+        return total;
+    }
+
+    private record Entry(LikedAuctionBitmap bitmap, long expiresAt) {
+    }
+}
@@ -194,9 +194,10 @@ public class OrderService {
      * - CASE B: 결제 완료된 주문 → Toss 취소 + 로그 남기기 + 주문 취소
      */
     @Transactional
-    public void autoCancelExpiredOrders() {
+    public int autoCancelExpiredOrders() {
         LocalDateTime deadline = LocalDateTime.now().minusHours(24); // 낙찰 후 24시간 기준
         List<OrderEntity> expiredOrders = orderRepository.findExpiredOrders(deadline);
+        int canceledCount = 0;
 
         for (OrderEntity order : expiredOrders) {
             // CASE A: 아직 결제 안 됨 (PENDING)
@@ -204,6 +205,7 @@ public class OrderService {
                 order.setOrderStatus("CANCELED");
                 order.setUpdatedAt(LocalDateTime.now());
                 orderRepository.save(order);
+                canceledCount++;
 
                 try {
                     // 자동 취소 알림 추가
@@ -245,6 +247,7 @@ public class OrderService {
                     order.setOrderStatus("CANCELED");
                     order.setUpdatedAt(LocalDateTime.now());
                     orderRepository.save(order);
+                    canceledCount++;
 
                     // 결제된 주문도 알림 전송 추가
                     String paidCancelMessage = String.format(
@@ -266,6 +269,7 @@ public class OrderService {
                 }
             }
         }
+        return canceledCount;
     }
 
     /**
@@ -334,28 +338,29 @@ public class OrderService {
         order.setShippingAddress(address);
 
         // 2. 기존 auction에 대한 result 존재 여부 체크
-        AuctionResultEntity existingResult = auctionResultRepository
+        // 마감 스케줄러가 경매마다 결과 행을 하나 만들어 두므로, 있으면 그 행에 주문을 연결한다 (경매당 결과 1건)
+        AuctionResultEntity result = auctionResultRepository
                 .findFirstByAuction_AuctionId(dto.getAuctionId())
                 .orElse(null);
 
-        // result 직접 생성
-        AuctionResultEntity result = AuctionResultEntity.builder()
-                .auction(auction)
-                .winner(buyer) // 구매자 == 낙찰자
-                .order(order)
-                .resultStatus(ResultStatus.SUCCESS_PENDING_PAYMENT) // 기본 상태
-                .finalPrice(auction.getCurrentPrice())
-                .closedAt(LocalDateTime.now())
-                .build();
-
+        if (result == null) {
+            result = AuctionResultEntity.builder()
+                    .auction(auction)
+                    .closedAt(LocalDateTime.now())
+                    .build();
+        } else if (result.getOrder() != null) {
+            throw new IllegalStateException("이미 주문이 연결된 경매입니다: " + dto.getAuctionId());
+        }
+        result.setWinner(buyer); // 구매자 == 낙찰자
+        result.setOrder(order);
+        result.setResultStatus(ResultStatus.SUCCESS_PENDING_PAYMENT); // 기본 상태
+        result.setFinalPrice(auction.getCurrentPrice());
 
         order.setResult(result);
 
 
-        // 저장
+        // 저장 (주문을 먼저 저장해야 결과 행의 order_id 를 채울 수 있다)
         OrderEntity saved = orderRepository.save(order);
-
-        // 중복위험
         auctionResultRepository.save(result);
 
 
@@ -0,0 +1,181 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.event.SchedulerPartitionsAssignedEvent;
+import com.bidnbuy.server.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * 여러 서버(노드)에서 스케줄러를 안전하게 나눠 실행하기 위한 DB 임대(lease)
+ * - 노드마다 node:{id} 임대를 주기적으로 갱신(heartbeat)하고, 만료되지 않은 노드를 살아있는 노드로 본다.
+ * - 경매 마감은 auction_id 파티션을 살아있는 노드 수로 나눠 맡는다. 노드가 죽으면 다음 heartbeat에서 재분배된다.
+ * - 노드 임대 행은 종료 시 지우고, 종료 처리 없이 죽은 노드의 행은 다른 노드의 heartbeat 가 정리한다.
+ * - 자동 취소/정지 해제처럼 한 곳에서만 돌아야 하는 작업은 job:{name} 임대를 얻은 노드만 실행한다.
+ * - auction.cluster.enabled=false 면 단일 노드로 보고 모든 파티션을 맡는다 (노드 임대/heartbeat 없음, job 임대는 그대로).
+ *   입찰 저널(auction.bid.journal.enabled)은 미반영 입찰을 그 노드 메모리만 알기 때문에 이 모드에서만 켤 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private static final String NODE_LEASE_PREFIX = "node:";
+    private static final String JOB_LEASE_PREFIX = "job:";
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${auction.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    @Value("${auction.cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${auction.cluster.partitions:64}")
+    private int partitionCount;
+
+    // heartbeat 주기(auction.cluster.heartbeat-ms)보다 충분히 길게
+    @Value("${auction.cluster.node-ttl-ms:15000}")
+    private long nodeTtlMillis;
+
+    private String nodeId;
+    private TransactionTemplate leaseTransaction;
+
+    private volatile Set<Integer> ownedPartitions = Set.of();
+    private volatile long lastHeartbeatAt;
+    private boolean initialized;
+
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId.isBlank() ? defaultNodeId() : configuredNodeId;
+        // 호출한 쪽 트랜잭션과 무관하게 바로 커밋
+        leaseTransaction = new TransactionTemplate(transactionManager);
+        leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (!clusterEnabled) {
+            log.info("단일 노드 모드: 경매 마감 파티션 {}개 전부 담당 (nodeId={})", partitionCount, nodeId);
+            initialized = true;
+            return;
+        }
+        heartbeat();
+        initialized = true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (!clusterEnabled) {
+            return;
+        }
+        try {
+            leaseTransaction.executeWithoutResult(status ->
+                    schedulerLeaseRepository.deleteLease(NODE_LEASE_PREFIX + nodeId, nodeId));
+        } catch (RuntimeException e) {
+            log.warn("노드 임대 삭제 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    // 생존 신호 갱신 + 살아있는 노드 기준으로 파티션 재계산
+    @Scheduled(fixedDelayString = "${auction.cluster.heartbeat-ms:5000}", scheduler = "auctionClosingScheduler")
+    public void heartbeat() {
+        if (!clusterEnabled) {
+            return;
+        }
+        List<String> liveNodes;
+        try {
+            liveNodes = leaseTransaction.execute(status -> {
+                String leaseName = NODE_LEASE_PREFIX + nodeId;
+                schedulerLeaseRepository.insertIfAbsent(leaseName, nodeId);
+                schedulerLeaseRepository.acquireOrRenew(leaseName, nodeId, nodeTtlMillis);
+                // 잠깐 갱신이 늦은 노드의 행까지 지우지 않도록 ttl 만큼 더 기다렸다가 정리
+                schedulerLeaseRepository.deleteExpiredNodes(nodeTtlMillis);
+                return schedulerLeaseRepository.findLiveNodeIds();
+            });
+        } catch (RuntimeException e) {
+            log.warn("스케줄러 heartbeat 실패: nodeId={} - {}", nodeId, e.getMessage());
+            return;
+        }
+        lastHeartbeatAt = System.currentTimeMillis();
+        rebalance(liveNodes);
+    }
+
+    private void rebalance(List<String> liveNodes) {
+        int index = liveNodes.indexOf(nodeId);
+        if (index < 0) {
+            return;
+        }
+        Set<Integer> partitions = new HashSet<>();
+        for (int partition = index; partition < partitionCount; partition += liveNodes.size()) {
+            partitions.add(partition);
+        }
+
+        Set<Integer> previous = ownedPartitions;
+        if (partitions.equals(previous)) {
+            return;
+        }
+        ownedPartitions = Set.copyOf(partitions);
+        log.info("경매 파티션 재분배: nodeId={}, 노드 {}개, 담당 파티션 {}개", nodeId, liveNodes.size(), partitions.size());
+
+        Set<Integer> gained = new HashSet<>(partitions);
+        gained.removeAll(previous);
+        if (initialized && !gained.isEmpty()) {
+            // 죽은 노드가 맡던 마감 대상을 바로 정리하도록 알림
+            eventPublisher.publishEvent(new SchedulerPartitionsAssignedEvent(Set.copyOf(gained)));
+        }
+    }
+
+    // 이 노드가 해당 경매의 마감을 맡는지 (생존 신호가 끊긴 동안에는 맡지 않음)
+    public boolean ownsAuction(Long auctionId) {
+        if (!clusterEnabled) {
+            return true;
+        }
+        if (System.currentTimeMillis() - lastHeartbeatAt > nodeTtlMillis) {
+            return false;
+        }
+        return ownedPartitions.contains(Math.floorMod(auctionId, partitionCount));
+    }
+
+    // 단일 실행 작업 임대 획득 (이미 가지고 있으면 연장). ttl 동안 다른 노드는 실행하지 않는다.
+    public boolean tryAcquire(String jobName, Duration ttl) {
+        String leaseName = JOB_LEASE_PREFIX + jobName;
+        try {
+            Boolean acquired = leaseTransaction.execute(status -> {
+                schedulerLeaseRepository.insertIfAbsent(leaseName, nodeId);
+                return schedulerLeaseRepository.acquireOrRenew(leaseName, nodeId, ttl.toMillis()) == 1;
+            });
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("다른 노드가 실행 중인 작업이므로 건너뜀: job={}", jobName);
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("작업 임대 획득 실패: job={} - {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -2,12 +2,14 @@ package com.bidnbuy.server.service;
 
 import com.bidnbuy.server.entity.UserEntity;
 import com.bidnbuy.server.repository.UserRepository;
+import com.bidnbuy.server.util.ScheduledJobMonitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -17,11 +19,21 @@ import java.util.List;
 public class SuspensionScheduler {
     
     private final UserRepository userRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ScheduledJobMonitor scheduledJobMonitor;
 
     // 매일 자정 정지 해제 체크
-    @Scheduled(cron = "0 0 0 * * ?")
+    @Scheduled(cron = "0 0 0 * * ?", scheduler = "suspensionTaskScheduler")
     @Transactional
     public void checkSuspensions() {
+        // 여러 서버 중 한 곳에서만 실행 (다음 날 자정 전까지 임대 유지)
+        if (!schedulerLeaseService.tryAcquire("suspension-release", Duration.ofHours(23))) {
+            return;
+        }
+        scheduledJobMonitor.run("suspension-release", Duration.ofDays(1), this::releaseExpiredSuspensions);
+    }
+
+    private int releaseExpiredSuspensions() {
         log.info("정지 해제 스케줄러 실행");
         
         List<UserEntity> suspendedUsers = userRepository.findByIsSuspendedTrue();
@@ -41,5 +53,6 @@ public class SuspensionScheduler {
         }
         
         log.info("정지 해제 스케줄러 완료: {}명 해제", releasedCount);
+        return releasedCount;
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.bidnbuy.server.repository.*;
 import com.bidnbuy.server.enums.AuthStatus;
 import com.bidnbuy.server.enums.UserStatus;
 import com.bidnbuy.server.exception.CustomAuthenticationException;
+import com.bidnbuy.server.util.ConditionalGetSupport;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.parameters.P;
@@ -367,6 +368,13 @@ public class UserService {
         return savedImageUrl;
     }
 
+    // 프로필 조회용 ETag: updated_at(@UpdateTimestamp) 만 읽어서 만든다
+    public String getProfileETag(Long userId, String view) {
+        LocalDateTime updatedAt = userRepository.findUpdatedAtById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자 존재하지 않습니다."));
+        return ConditionalGetSupport.etag(view, userId, updatedAt);
+    }
+
     // 다른 유저 프로필조회
     @Transactional(readOnly = true)
     public UserProfileSummaryDto getOtherUserProfile(Long userId, Long targetId) {
@@ -1,166 +1,192 @@
 package com.bidnbuy.server.service;
 
+import com.bidnbuy.server.dto.CursorResponseDto;
 import com.bidnbuy.server.dto.WishlistDto;
 import com.bidnbuy.server.dto.WishlistResponseDto;
-import com.bidnbuy.server.entity.AuctionProductsEntity;
-import com.bidnbuy.server.entity.UserEntity;
-import com.bidnbuy.server.entity.WishlistEntity;
-import com.bidnbuy.server.enums.IsDeletedStatus;
-import com.bidnbuy.server.enums.SellingStatus;
+import com.bidnbuy.server.enums.ErrorCode;
 import com.bidnbuy.server.enums.WishlistFilterStatus;
 import com.bidnbuy.server.repository.AuctionProductsRepository;
-import com.bidnbuy.server.repository.ImageRepository;
-import com.bidnbuy.server.repository.UserRepository;
 import com.bidnbuy.server.repository.WishlistRepository;
+import com.bidnbuy.server.repository.projection.WishStateProjection;
+import com.bidnbuy.server.repository.projection.WishlistItemProjection;
+import com.bidnbuy.server.exception.CustomException;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class WishlistService {
     private final WishlistRepository wishlistRepository;
-    private final UserRepository userRepository;
     private final AuctionProductsRepository auctionProductsRepository;
     private final AuctionProductsService auctionProductsService;
-    private final ImageRepository imageRepository;
+    private final AuctionFeed auctionFeed;
+    private final LikedAuctionCache likedAuctionCache;
 
+    // 전체 목록 조회 시 한 번에 읽는 건수
+    private static final int FULL_LIST_BATCH = 200;
+
+    // 찜 토글 (POST): 있으면 취소, 없으면 등록
     @Transactional
     public WishlistDto like(Long userId, Long auctionId) {
+        if (wishlistRepository.deleteLike(userId, auctionId) == 1) {
+            auctionProductsRepository.adjustWishCount(auctionId, -1);
+            return likeResult(userId, auctionId, true, false);
+        }
+        return putLike(userId, auctionId);
+    }
 
-        // 유저 존재하는지 확인
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("해당 유저 ID가 없습니다"));
-
-        // 해당 경매 물품이 있는지 확인
-        AuctionProductsEntity auction = auctionProductsRepository.findById(auctionId)
-                .orElseThrow(() -> new RuntimeException("해당 경매 물품 ID가 없습니다"));
+    // 찜 등록 (PUT, 이미 찜했으면 그대로)
+    // 엔티티를 읽지 않고 찜 수 UPDATE -> INSERT -> 결과 1회 조회 (COUNT 없음)
+    // 경매 행 X 잠금을 먼저 잡아서 동시 찜이 INSERT 의 외래키 S 잠금과 UPDATE 의 X 잠금을 엇갈려 잡지 않게 한다
+    // 동시에 눌러도 유니크 키(USER_AUCTION_WISH)가 한 건만 들어가게 하고, 들어가지 않았으면 올린 카운터를 되돌린다
+    @Transactional
+    public WishlistDto putLike(Long userId, Long auctionId) {
+        boolean inserted = false;
+        if (auctionProductsRepository.incrementWishCountIfLikable(auctionId, userId) == 1) {
+            inserted = wishlistRepository.insertLike(userId, auctionId) == 1;
+            if (!inserted) {
+                auctionProductsRepository.adjustWishCount(auctionId, -1);
+            }
+        }
+        return likeResult(userId, auctionId, inserted, true);
+    }
 
-        // 판매자 유저 존재 여부 확인 후 본인 체크
-        UserEntity seller = auction.getUser();
+    // 찜 취소 (DELETE, 찜하지 않았으면 그대로)
+    @Transactional
+    public WishlistDto deleteLike(Long userId, Long auctionId) {
+        boolean deleted = wishlistRepository.deleteLike(userId, auctionId) == 1;
+        if (deleted) {
+            auctionProductsRepository.adjustWishCount(auctionId, -1);
+        }
+        return likeResult(userId, auctionId, deleted, false);
+    }
 
-        // 판매자 유저가 있고(널 체크), 본인이 등록한 물품이면 찜 금지
-        if(seller != null && seller.getUserId().longValue() == userId.longValue()) {
-            throw new RuntimeException("자신이 등록한 경매 물품은 찜 할 수 없습니다.");
+    private WishlistDto likeResult(Long userId, Long auctionId, boolean changed, boolean expectLiked) {
+        Optional<WishStateProjection> found = wishlistRepository.findWishState(userId, auctionId);
+        if (found.isEmpty() && !expectLiked) {
+            // 삭제된 경매의 찜 취소는 실패로 돌리지 않는다 (찜 행만 지우고, 피드에서는 이미 빠진 경매)
+            if (changed) {
+                afterCommit(() -> likedAuctionCache.update(userId, auctionId, false));
+            }
+            return WishlistDto.builder()
+                    .auctionId(auctionId)
+                    .wishCount(0)
+                    .isLiked(false)
+                    .build();
+        }
+        WishStateProjection state = found.orElseThrow(() -> new CustomException(ErrorCode.AUCTION_NOT_FOUND));
+        boolean liked = state.getLiked() != null && state.getLiked() == 1;
+        if (expectLiked && !liked) {
+            // 등록했는데 찜 상태가 아니면: 본인 경매이거나 사용자 없음
+            throw new CustomException(userId.equals(state.getSellerId())
+                    ? ErrorCode.SELF_WISH_FORBIDDEN : ErrorCode.INVALID_USER_ID);
         }
+        if (changed) {
+            afterLikeChanged(userId, auctionId, state.getWishCount(), liked);
+        }
+        return WishlistDto.builder()
+                .auctionId(auctionId)
+                .wishCount(state.getWishCount())
+                .isLiked(liked)
+                .build();
+    }
+
+    // 인기 피드/찜 캐시 반영은 커밋 이후에 (롤백된 찜이 점수나 하트 표시에 들어가지 않도록)
+    private void afterLikeChanged(Long userId, Long auctionId, Integer wishCount, boolean liked) {
+        afterCommit(() -> {
+            likedAuctionCache.update(userId, auctionId, liked);
+            auctionFeed.onWish(auctionId, wishCount, liked);
+        });
+    }
 
-        // 3. 찜 상태 확인 -> 로그인한 사용자가 경매 물품을 찜했는지 찾는다.
-        return wishlistRepository.findByUserAndAuction(user, auction)
-                .map(wishlist -> {
-                    // 4. 찜이 존재하면 -> 찜 취소(DELETE)
-                    wishlistRepository.delete(wishlist);
-
-                    // 5. 삭제 후, 총 찜 개수와 상태를 반환
-                    Integer wishCount = wishlistRepository.countByAuction(auction);
-                    return WishlistDto.builder()
-                            .isLiked(false) // 찜 취소됨
-                            .wishCount(wishCount)
-                            .auctionId(auctionId)
-                            .build();
-                })
-                .orElseGet(() -> {
-                    // 6. 찜이 존재하지 않으면 -> 찜 등록(CREATE)
-                    WishlistEntity newWishlist = WishlistEntity.builder()
-                            .user(user)
-                            .auction(auction)
-                            .createdAt(LocalDateTime.now())
-                            .isDeleted(IsDeletedStatus.N)
-                            .build();
-                    wishlistRepository.save(newWishlist);
-
-                    // 7. 등록 후, 총 찜 개수와 상태를 반환
-                    Integer wishCount = wishlistRepository.countByAuction(auction);
-                    return WishlistDto.builder()
-                            .isLiked(true) // 찜 등록됨
-                            .wishCount(wishCount)
-                            .auctionId(auctionId)
-                            .build();
-                });
+    private static void afterCommit(Runnable apply) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
     }
 
-    // 조회
+    // 조회 (전체 목록: 페이지 쿼리를 끝까지 이어서 읽는다)
     @Transactional(readOnly = true)
     public List<WishlistResponseDto> getWishlist(Long userId, WishlistFilterStatus filterStatus) {
-
-        // 1. 유저 존재하는지 확인 (기존 로직 유지)
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("해당 유저 ID가 없습니다"));
-
-        // 2. 해당 경매 물품이 있는지 확인 (기존 로직 유지)
-        List<WishlistEntity> list =  wishlistRepository.findByUserWithAuctionAndImages(user);
-
-        return list.stream()
-                .filter(wish -> {
-                    AuctionProductsEntity product = wish.getAuction();
-
-                    String currentStatusString = auctionProductsService.calculateSellingStatus(product);
-
-                    if (filterStatus == WishlistFilterStatus.ALL){
-                        return true;
-                    }
-
-                    // ✨ [핵심 수정] 1. 상태 문자열을 기반으로 그룹을 판단합니다.
-                    // 이 부분이 기존의 Enum 변환/오류 로직을 대체합니다.
-
-                    // 진행 중 그룹: "경매 진행 중" 또는 "경매 시작전"
-                    boolean isProgressGroup = "진행중".equals(currentStatusString)
-                            || "시작전".equals(currentStatusString);
-
-                    // 종료 그룹: "경매 종료", "판매완료", "판매자 삭제완료"
-                    boolean isFinishedGroup = "종료".equals(currentStatusString)
-                            || "완료".equals(currentStatusString)
-                            || "삭제".equals(currentStatusString); // ✨ 라벨 통일 및 삭제 상태 포함
-
-                    // 2. 필터링 로직 (기존 의도 유지)
-
-                    if (filterStatus == WishlistFilterStatus.FINISHED) {
-                        return isFinishedGroup; // 종료 그룹 상태인 경우 포함
-                    }
-
-                    if (filterStatus == WishlistFilterStatus.PROGRESS) {
-                        return isProgressGroup; // 진행 중 그룹 상태인 경우 포함
-                    }
-
-                    return false;
-                })
-                .map(wish -> {
-                    AuctionProductsEntity product = wish.getAuction();
-
-                    // AuctionProductsService에서 최종 라벨을 가져옵니다.
-                    String sellingStatus = auctionProductsService.calculateSellingStatus(product);
-
-                    String mainImageUrl = imageRepository.findFirstImageUrlByAuctionId(product.getAuctionId())
-                            .orElse(null);
-
-                    String sellerNicknameSafe = "탈퇴회원";
-                    try {
-                        if (product.getUser() != null) {
-                            sellerNicknameSafe = product.getUser().getNickname();
-                        }
-                    } catch (Exception e) {
-                        // keep fallback
-                    }
-
-                    return WishlistResponseDto.builder()
-                            .auctionId(product.getAuctionId())
-                            .title(product.getTitle())
-                            .mainImageUrl(mainImageUrl)
-                            .currentPrice(product.getCurrentPrice())
-                            .endTime(product.getEndTime())
-                            .sellerNickname(sellerNicknameSafe)
-                            .sellingStatus(sellingStatus)
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 필터링
+        List<WishlistResponseDto> result = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        long cursorId = Long.MAX_VALUE;
+        while (true) {
+            List<WishlistItemProjection> rows = wishlistRepository.findWishlistPage(
+                    userId, filterStatus.name(), now, cursorId, FULL_LIST_BATCH);
+            rows.forEach(row -> result.add(toResponse(row)));
+            if (rows.size() < FULL_LIST_BATCH) {
+                return result;
+            }
+            cursorId = rows.get(rows.size() - 1).getWishlistId();
+        }
     }
-}
 
+    // 조회 (커서 페이지, 최근 찜한 순)
+    // 상태 그룹 필터/대표 이미지/판매자 닉네임까지 쿼리 한 번으로 처리
+    @Transactional(readOnly = true)
+    public CursorResponseDto<WishlistResponseDto> getWishlistByCursor(Long userId, WishlistFilterStatus filterStatus,
+                                                                      String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        // 다른 필터로 만든 커서는 이어서 쓸 수 없다
+        String sortKey = "wish_" + filterStatus.name().toLowerCase();
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                cursorId = Long.parseLong(AuctionListCursor.decode(cursor, sortKey).sortValue());
+            } catch (NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 읽는다
+        List<WishlistItemProjection> rows = wishlistRepository.findWishlistPage(
+                userId, filterStatus.name(), LocalDateTime.now(), cursorId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<WishlistItemProjection> page = hasNext ? rows.subList(0, size) : rows;
 
+        String nextCursor = null;
+        if (hasNext) {
+            WishlistItemProjection last = page.get(page.size() - 1);
+            nextCursor = new AuctionListCursor(sortKey, String.valueOf(last.getWishlistId()), last.getAuctionId()).encode();
+        }
 
+        return CursorResponseDto.<WishlistResponseDto>builder()
+                .data(page.stream().map(this::toResponse).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .build();
+    }
+
+    private WishlistResponseDto toResponse(WishlistItemProjection row) {
+        return WishlistResponseDto.builder()
+                .auctionId(row.getAuctionId())
+                .title(row.getTitle())
+                .mainImageUrl(row.getMainImageUrl())
+                .currentPrice(row.getCurrentPrice())
+                .endTime(row.getEndTime())
+                .sellerNickname(row.getSellerNickname())
+                .sellingStatus(auctionProductsService.calculateSellingStatusFromDbValue(
+                        row.getSellingStatus(), row.getEndTime(), row.getStartTime()))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bidnbuy.server.util;
+
+import com.bidnbuy.server.service.AuctionListColumnReconciler;
+import com.bidnbuy.server.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class AuctionListColumnScheduler {
+
+    private final AuctionListColumnReconciler auctionListColumnReconciler;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ScheduledJobMonitor scheduledJobMonitor;
+
+    // 매일 새벽 4시 찜 수 / 대표 이미지 보정 (여러 서버 중 한 곳에서만 실행)
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcile() {
+        if (!schedulerLeaseService.tryAcquire("auction-list-columns-reconcile", Duration.ofHours(23))) {
+            return;
+        }
+        scheduledJobMonitor.run("auction-list-columns-reconcile", Duration.ofDays(1), auctionListColumnReconciler::reconcile);
+    }
+
+    // 기동 시 한 번 보정 (컬럼 추가 전부터 있던 경매의 찜 수 / 대표 이미지 채우기, 동시에 뜬 노드 중 한 곳만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!schedulerLeaseService.tryAcquire("auction-list-columns-backfill", Duration.ofHours(1))) {
+            return;
+        }
+        scheduledJobMonitor.run("auction-list-columns-backfill", Duration.ofHours(1), auctionListColumnReconciler::reconcile);
+    }
+}
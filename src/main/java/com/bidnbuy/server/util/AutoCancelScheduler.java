@@ -1,21 +1,31 @@
 package com.bidnbuy.server.util;
 
 import com.bidnbuy.server.service.OrderService;
+import com.bidnbuy.server.service.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 public class AutoCancelScheduler {
 
     private final OrderService orderService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ScheduledJobMonitor scheduledJobMonitor;
 
     // 1시간마다 실행 36000 -> 3600000으로 변경
-    @Scheduled(fixedRate = 3600000)
+    // Toss 취소 호출이 오래 걸려도 경매 마감에 영향이 없도록 전용 스케줄러에서 실행
+    @Scheduled(fixedRate = 3600000, scheduler = "orderCancelScheduler")
     public void runAutoCancel() {
+        // 여러 서버 중 한 곳에서만 실행 (다음 실행 전까지 임대 유지)
+        if (!schedulerLeaseService.tryAcquire("auto-cancel", Duration.ofMinutes(55))) {
+            return;
+        }
         System.out.println("✅ 자동 취소 스케줄러 실행됨 - kgb");
-        orderService.autoCancelExpiredOrders();
+        scheduledJobMonitor.run("order-auto-cancel", Duration.ofHours(1), orderService::autoCancelExpiredOrders);
         System.out.println("✅ 자동 취소 스케줄러 완료됨 - kgb");
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.bidnbuy.server.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 조건부 GET (If-None-Match) 처리와 지표 (endpoint 태그)
+ * - http.conditional.requests : result=not_modified | modified
+ * - http.conditional.bytes.saved : 304 로 보내지 않은 본문 크기 (추정)
+ * - http.conditional.serialization.saved : 304 로 생략한 JSON 직렬화 시간 (추정, 초)
+ * 추정값은 200 응답 일부를 표본으로 직렬화해 구한 엔드포인트별 이동 평균이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetSupport {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    // 본문을 보내는 응답(HTTP 200) sampleEvery 건마다 한 번 직렬화해서 크기/시간을 잰다
+    @Value("${http.conditional.sample-every:200}")
+    private int sampleEvery;
+
+    private final ConcurrentHashMap<String, BodyStats> stats = new ConcurrentHashMap<>();
+
+    // 버전 값들로 만든 강한 ETag (따옴표 포함)
+    public static String etag(Object... versionParts) {
+        StringBuilder raw = new StringBuilder();
+        for (Object part : versionParts) {
+            raw.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // true 면 컨트롤러는 본문 없이 null 을 반환 (304 와 ETag 헤더는 WebRequest 가 채운다)
+    public boolean notModified(WebRequest webRequest, String endpoint, String etag) {
+        if (webRequest.checkNotModified(etag)) {
+            meterRegistry.counter("http.conditional.requests", "endpoint", endpoint, "result", "not_modified").increment();
+            BodyStats body = stats.get(endpoint);
+            if (body != null) {
+                meterRegistry.counter("http.conditional.bytes.saved", "endpoint", endpoint).increment(body.avgBytes.get());
+                meterRegistry.counter("http.conditional.serialization.saved", "endpoint", endpoint)
+                        .increment(body.avgNanos.get() / 1_000_000_000.0);
+            }
+            return true;
+        }
+        meterRegistry.counter("http.conditional.requests", "endpoint", endpoint, "result", "modified").increment();
+        return false;
+    }
+
+    // 200 으로 내보낼 본문을 가끔 표본으로 재고 그대로 돌려준다
+    public <T> T sample(String endpoint, T body) {
+        BodyStats endpointStats = stats.computeIfAbsent(endpoint, key -> new BodyStats());
+        if (endpointStats.calls.getAndIncrement() % Math.max(sampleEvery, 1) != 0) {
+            return body;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            int bytes = objectMapper.writeValueAsBytes(body).length;
+            endpointStats.record(bytes, System.nanoTime() - startedAt);
+        } catch (JsonProcessingException e) {
+            log.debug("조건부 GET 표본 직렬화 실패: endpoint={}", endpoint, e);
+        }
+        return body;
+    }
+
+    private static final class BodyStats {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong avgBytes = new AtomicLong();
+        private final AtomicLong avgNanos = new AtomicLong();
+
+        // 첫 표본은 그대로, 이후는 1/8 가중 이동 평균
+        private void record(long bytes, long nanos) {
+            avgBytes.getAndUpdate(prev -> prev == 0 ? bytes : prev + (bytes - prev) / 8);
+            avgNanos.getAndUpdate(prev -> prev == 0 ? nanos : prev + (nanos - prev) / 8);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bidnbuy.server.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/*
+ * 스케줄 작업 실행 지표 (job 태그)
+ * - scheduler.job.duration : 실행 시간
+ * - scheduler.job.items : 처리 건수
+ * - scheduler.job.overrun : 실행 시간이 주기보다 길었던 횟수
+ * - scheduler.job.failures : 예외로 끝난 횟수
+ * - scheduler.job.last.success : 마지막 성공 시각 (epoch ms)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+
+    public void run(String job, Duration period, IntSupplier task) {
+        long startedAt = System.nanoTime();
+        try {
+            int items = task.getAsInt();
+            meterRegistry.counter("scheduler.job.items", "job", job).increment(items);
+            lastSuccessOf(job).set(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            meterRegistry.counter("scheduler.job.failures", "job", job).increment();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            meterRegistry.timer("scheduler.job.duration", "job", job).record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed > period.toNanos()) {
+                meterRegistry.counter("scheduler.job.overrun", "job", job).increment();
+                log.warn("스케줄 작업이 주기보다 오래 걸림: job={}, {}ms (주기 {}ms)",
+                        job, TimeUnit.NANOSECONDS.toMillis(elapsed), period.toMillis());
+            }
+        }
+    }
+
+    private AtomicLong lastSuccessOf(String job) {
+        return lastSuccess.computeIfAbsent(job,
+                name -> meterRegistry.gauge("scheduler.job.last.success", Tags.of("job", name), new AtomicLong()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.bidnbuy.server.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// replica 를 켜도 open-in-view 는 그대로 두고 커넥션만 트랜잭션마다 반납하는지 확인
+class ReplicaConnectionReleaseConfigurerTest {
+
+    private final ReplicaConnectionReleaseConfigurer configurer = new ReplicaConnectionReleaseConfigurer();
+
+    @Test
+    void replicaEnabled_releasesConnectionPerTransactionAndKeepsOpenInView() {
+        StandardEnvironment environment = environment(Map.of("datasource.replica.enabled", "true"));
+
+        configurer.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(ReplicaConnectionReleaseConfigurer.HANDLING_MODE))
+                .isEqualTo(ReplicaConnectionReleaseConfigurer.RELEASE_AFTER_TRANSACTION);
+        assertThat(environment.getProperty("spring.jpa.open-in-view")).isNull();
+    }
+
+    @Test
+    void replicaDisabled_leavesJpaSettingsAlone() {
+        StandardEnvironment environment = environment(Map.of());
+
+        configurer.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(ReplicaConnectionReleaseConfigurer.HANDLING_MODE)).isNull();
+    }
+
+    private static StandardEnvironment environment(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return environment;
+    }
+}
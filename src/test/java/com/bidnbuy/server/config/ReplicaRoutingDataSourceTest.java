@@ -0,0 +1,120 @@
+package com.bidnbuy.server.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 입찰처럼 요청 스레드 밖(입찰 워커)에서 커밋된 쓰기 뒤의 읽기가 어디로 라우팅되는지 확인
+class ReplicaRoutingDataSourceTest {
+
+    private final TransactionTemplate writeTransaction = new TransactionTemplate(new NoOpTransactionManager());
+    private final TransactionTemplate readTransaction = new TransactionTemplate(new NoOpTransactionManager());
+    private final ExecutorService bidWorker = Executors.newSingleThreadExecutor();
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isHealthy()).thenReturn(true);
+        routing = new ReplicaRoutingDataSource(lagMonitor, new SimpleMeterRegistry());
+        readTransaction.setReadOnly(true);
+        ReplicaRoutingContext.enable(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.end();
+        bidWorker.shutdownNow();
+    }
+
+    @Test
+    void readAfterBidCommittedOnWorker_goesToPrimary() {
+        long bidderId = 101L;
+        ReplicaRoutingContext.begin(bidderId);
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+
+        Object bidRoute = CompletableFuture.supplyAsync(() -> writeTransaction.execute(status -> {
+            ReplicaRoutingContext.recordWrite(bidderId);
+            return routing.determineCurrentLookupKey();
+        }), bidWorker).join();
+
+        assertThat(bidRoute).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        // 같은 요청의 이어지는 읽기
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        // 다음 요청의 읽기도 sticky 동안 primary
+        ReplicaRoutingContext.end();
+        ReplicaRoutingContext.begin(bidderId);
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void otherUsersReads_stayOnReplica() {
+        CompletableFuture.runAsync(() -> writeTransaction.executeWithoutResult(
+                status -> ReplicaRoutingContext.recordWrite(201L)), bidWorker).join();
+
+        ReplicaRoutingContext.begin(202L);
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void rolledBackBid_doesNotPinBidder() {
+        long bidderId = 301L;
+        CompletableFuture.runAsync(() -> writeTransaction.executeWithoutResult(status -> {
+            ReplicaRoutingContext.recordWrite(bidderId);
+            status.setRollbackOnly();
+        }), bidWorker).join();
+
+        ReplicaRoutingContext.begin(bidderId);
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void writeOnRequestThread_pinsLaterReadsOfThatRequest() {
+        ReplicaRoutingContext.begin(401L);
+        writeTransaction.executeWithoutResult(status -> routing.determineCurrentLookupKey());
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        ReplicaRoutingContext.end();
+        ReplicaRoutingContext.begin(401L);
+        assertThat(routeRead()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private Object routeRead() {
+        return readTransaction.execute(status -> routing.determineCurrentLookupKey());
+    }
+
+    // 커넥션 없이 트랜잭션 동기화(읽기 전용 여부, 커밋/롤백 콜백)만 돌리는 트랜잭션 매니저
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.dto.AuctionSalesHistoryDto;
+import com.bidnbuy.server.entity.AddressEntity;
+import com.bidnbuy.server.entity.AuctionProductsEntity;
+import com.bidnbuy.server.entity.AuctionResultEntity;
+import com.bidnbuy.server.entity.OrderEntity;
+import com.bidnbuy.server.enums.ResultStatus;
+import com.bidnbuy.server.enums.TradeFilterStatus;
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import com.bidnbuy.server.repository.AuctionResultRepository;
+import com.bidnbuy.server.repository.ImageRepository;
+import com.bidnbuy.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// replica 라우팅을 켠 상태의 판매 내역 조회: 지연 로딩(주문 -> 배송지)이 읽기 전용 트랜잭션 안에서 일어나는지 확인
+// 읽기 전용 트랜잭션이어야 replica 로 라우팅되고, 트랜잭션 밖 지연 로딩은 세션/라우팅 없이 primary 로 간다
+class AuctionResultServiceTest {
+
+    private final AuctionResultRepository auctionResultRepository = mock(AuctionResultRepository.class);
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+
+    @Test
+    void salesHistory_loadsShippingAddressInsideReadOnlyTransaction() {
+        AddressEntity address = AddressEntity.builder()
+                .recipientName("홍길동")
+                .phoneNumber("010-0000-0000")
+                .zonecode("06000")
+                .address("서울시 강남구")
+                .detailAddress("101호")
+                .build();
+        OrderEntity order = mock(OrderEntity.class);
+        List<Boolean> lazyLoadReadOnly = new ArrayList<>();
+        when(order.getShippingAddress()).thenAnswer(invocation -> {
+            lazyLoadReadOnly.add(TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return address;
+        });
+        AuctionResultEntity result = AuctionResultEntity.builder()
+                .auction(AuctionProductsEntity.builder().auctionId(1L).title("경매").build())
+                .order(order)
+                .resultStatus(ResultStatus.SUCCESS_COMPLETED)
+                .finalPrice(10_000)
+                .closedAt(LocalDateTime.now())
+                .build();
+        when(auctionResultRepository.findByAuction_User_UserId_Optimized(7L)).thenReturn(List.of(result));
+        when(imageRepository.findFirstImageUrlByAuctionId(anyLong())).thenReturn(Optional.empty());
+
+        List<AuctionSalesHistoryDto> sales = transactionalService()
+                .getSalesHistory(7L, TradeFilterStatus.COMPLETED);
+
+        assertThat(sales).singleElement()
+                .extracting(AuctionSalesHistoryDto::getRecipientName)
+                .isEqualTo("홍길동");
+        assertThat(lazyLoadReadOnly).containsExactly(true);
+    }
+
+    // 서비스에 붙은 @Transactional 을 그대로 적용한 프록시
+    private AuctionResultService transactionalService() {
+        AuctionResultService target = new AuctionResultService(
+                auctionResultRepository,
+                mock(UserRepository.class),
+                imageRepository,
+                mock(AuctionProductsRepository.class));
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+                new NoOpTransactionManager(), new AnnotationTransactionAttributeSource()));
+        return (AuctionResultService) proxyFactory.getProxy();
+    }
+
+    // 커넥션 없이 트랜잭션 동기화(읽기 전용 여부)만 돌리는 트랜잭션 매니저
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.bidnbuy.server.service;
+
+import com.bidnbuy.server.event.SchedulerPartitionsAssignedEvent;
+import com.bidnbuy.server.repository.AuctionBidRepository;
+import com.bidnbuy.server.repository.AuctionHistoryRepository;
+import com.bidnbuy.server.repository.AuctionProductsRepository;
+import com.bidnbuy.server.repository.AuctionResultRepository;
+import com.bidnbuy.server.util.ScheduledJobMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 파티션 인수(failover) 이벤트가 heartbeat 스레드를 붙잡지 않는지 확인
+class AuctionSchedulerServiceTest {
+
+    private final AuctionProductsRepository auctionProductsRepository = mock(AuctionProductsRepository.class);
+    private AuctionSchedulerService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuctionSchedulerService(
+                auctionProductsRepository,
+                mock(AuctionBidRepository.class),
+                mock(AuctionResultRepository.class),
+                mock(AuctionBidSequencer.class),
+                mock(ApplicationEventPublisher.class),
+                mock(TransactionTemplate.class),
+                new SimpleMeterRegistry(),
+                mock(AuctionHistoryRepository.class),
+                mock(AuctionBidJournal.class),
+                mock(SchedulerLeaseService.class),
+                new ScheduledJobMonitor(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "closingWorkerCount", 2);
+        ReflectionTestUtils.setField(service, "closingChunkSize", 500);
+        ReflectionTestUtils.setField(service, "sweepIntervalMillis", 300_000L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void partitionsAssigned_returnsBeforeSweepAndSweepsOnAnotherThread() throws Exception {
+        CountDownLatch sweepStarted = new CountDownLatch(1);
+        CountDownLatch releaseSweep = new CountDownLatch(1);
+        AtomicReference<String> sweepThread = new AtomicReference<>();
+        when(auctionProductsRepository.findExpiredOpenAuctionIdsAfter(any(), anyLong(), anyList(), any()))
+                .thenAnswer(invocation -> {
+                    sweepThread.set(Thread.currentThread().getName());
+                    sweepStarted.countDown();
+                    releaseSweep.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                });
+
+        long startedAt = System.nanoTime();
+        service.onPartitionsAssigned(new SchedulerPartitionsAssignedEvent(Set.of(3, 7)));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 스윕이 막혀 있어도 이벤트 스레드는 바로 돌아온다
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(sweepStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sweepThread.get())
+                .startsWith("auction-failover-sweep-")
+                .isNotEqualTo(Thread.currentThread().getName());
+        releaseSweep.countDown();
+    }
+
+    @Test
+    void partitionsAssigned_coalescesEventsWhileSweepIsQueued() throws Exception {
+        CountDownLatch firstSweepStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSweep = new CountDownLatch(1);
+        AtomicInteger sweeps = new AtomicInteger();
+        when(auctionProductsRepository.findExpiredOpenAuctionIdsAfter(any(), anyLong(), anyList(), any()))
+                .thenAnswer(invocation -> {
+                    if (sweeps.incrementAndGet() == 1) {
+                        firstSweepStarted.countDown();
+                        releaseFirstSweep.await(5, TimeUnit.SECONDS);
+                    }
+                    return List.of();
+                });
+
+        service.onPartitionsAssigned(new SchedulerPartitionsAssignedEvent(Set.of(1)));
+        assertThat(firstSweepStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 스윕 진행 중에 들어온 이벤트들은 뒤이은 스윕 하나로 합쳐진다
+        service.onPartitionsAssigned(new SchedulerPartitionsAssignedEvent(Set.of(2)));
+        service.onPartitionsAssigned(new SchedulerPartitionsAssignedEvent(Set.of(4)));
+        releaseFirstSweep.countDown();
+
+        ExecutorService sweeper = (ExecutorService) ReflectionTestUtils.getField(service, "failoverSweeper");
+        sweeper.shutdown();
+        assertThat(sweeper.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sweeps.get()).isEqualTo(2);
+    }
+}